@@ -0,0 +1,166 @@
+package com.vacationstay.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vacationstay.event.BookingChangedEvent;
+import com.vacationstay.event.BookingDeletedEvent;
+import com.vacationstay.event.PropertyDeletedEvent;
+import com.vacationstay.model.Booking;
+import com.vacationstay.repository.BookingDateRange;
+import com.vacationstay.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Answers property availability checks from per-property booking calendars.
+ * <p>
+ * Each calendar is a day bitset covering a rolling horizon starting today (about two
+ * years by default). Calendars are loaded on first use from the active bookings of the
+ * property, rebuilt once their origin falls behind the current date, and evicted when
+ * more than the configured number of properties are cached, so cold properties cost
+ * nothing until they are checked.
+ * </p>
+ * <p>
+ * Calendars are updated from the {@link BookingChangedEvent} and
+ * {@link BookingDeletedEvent} events published after each committed write. Ranges
+ * that start in the past or extend beyond the horizon are checked against the database.
+ * </p>
+ * <p>
+ * A booking occupies every date from its check-in date to its check-out date inclusive,
+ * and cancelled bookings occupy no dates.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Slf4j
+public class AvailabilityCalendar {
+
+    private static final String CANCELLED = "cancelled";
+
+    private final BookingRepository bookingRepository;
+    private final int horizonDays;
+    private final Cache<Long, PropertyCalendar> calendars;
+
+    /**
+     * Creates the availability calendar.
+     *
+     * @param bookingRepository the repository used to load calendars
+     * @param horizonDays the number of days covered by each calendar, starting today
+     * @param maxCachedProperties the maximum number of property calendars kept in memory
+     */
+    public AvailabilityCalendar(BookingRepository bookingRepository,
+                                @Value("${app.availability.horizon-days:731}") int horizonDays,
+                                @Value("${app.availability.max-cached-properties:10000}") long maxCachedProperties) {
+        this.bookingRepository = bookingRepository;
+        this.horizonDays = horizonDays;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maxCachedProperties)
+                .build();
+    }
+
+    /**
+     * Checks whether a property is free on every date of a range.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the check-in date
+     * @param endDate the check-out date
+     * @return true if no active booking occupies a date of the range
+     */
+    public boolean isAvailable(Long propertyId, LocalDate startDate, LocalDate endDate) {
+        return isAvailable(propertyId, startDate, endDate, null);
+    }
+
+    /**
+     * Checks whether a property is free on every date of a range, ignoring one booking.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the check-in date
+     * @param endDate the check-out date
+     * @param excludedBookingId the ID of a booking to ignore, typically the booking being changed, or null
+     * @return true if no other active booking occupies a date of the range
+     */
+    public boolean isAvailable(Long propertyId, LocalDate startDate, LocalDate endDate, Long excludedBookingId) {
+        LocalDate today = LocalDate.now();
+        if (endDate.isBefore(startDate) || startDate.isBefore(today)
+                || !endDate.isBefore(today.plusDays(horizonDays))) {
+            return !bookingRepository.existsActiveBookingBetween(propertyId, startDate, endDate, excludedBookingId);
+        }
+        return calendarFor(propertyId, today).isFree(startDate, endDate, excludedBookingId);
+    }
+
+    /**
+     * Returns the number of property calendars currently in memory.
+     *
+     * @return the number of cached calendars
+     */
+    public long cachedProperties() {
+        return calendars.estimatedSize();
+    }
+
+    /**
+     * Applies a committed booking creation, update or cancellation to a loaded calendar.
+     *
+     * @param event the booking change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        Booking booking = event.getBooking();
+        calendars.asMap().computeIfPresent(booking.getProperty().getId(), (propertyId, calendar) -> {
+            calendar.put(booking.getId(), booking.getStartDate(), booking.getEndDate(),
+                    !CANCELLED.equals(booking.getStatus()));
+            return calendar;
+        });
+    }
+
+    /**
+     * Applies a committed booking deletion to a loaded calendar.
+     *
+     * @param event the booking deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingDeleted(BookingDeletedEvent event) {
+        calendars.asMap().computeIfPresent(event.getPropertyId(), (propertyId, calendar) -> {
+            calendar.remove(event.getBookingId());
+            return calendar;
+        });
+    }
+
+    /**
+     * Drops the calendar of a deleted property.
+     *
+     * @param event the property deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        calendars.invalidate(event.getPropertyId());
+    }
+
+    private PropertyCalendar calendarFor(Long propertyId, LocalDate today) {
+        PropertyCalendar calendar = calendars.get(propertyId, id -> load(id, today));
+        if (!calendar.getOrigin().equals(today)) {
+            // The horizon has rolled forward since the calendar was loaded
+            calendars.asMap().remove(propertyId, calendar);
+            calendar = calendars.get(propertyId, id -> load(id, today));
+        }
+        return calendar;
+    }
+
+    private PropertyCalendar load(Long propertyId, LocalDate origin) {
+        PropertyCalendar calendar = new PropertyCalendar(origin, horizonDays);
+        List<BookingDateRange> bookings = bookingRepository.findActiveDateRanges(
+                propertyId, origin, origin.plusDays(horizonDays - 1L));
+        for (BookingDateRange booking : bookings) {
+            calendar.put(booking.getId(), booking.getStartDate(), booking.getEndDate(), true);
+        }
+        log.debug("Loaded availability calendar for property {} with {} bookings", propertyId, bookings.size());
+        return calendar;
+    }
+}
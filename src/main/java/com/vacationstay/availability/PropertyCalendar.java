@@ -0,0 +1,116 @@
+package com.vacationstay.availability;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Day-granularity booking calendar of a single property.
+ * <p>
+ * Covers {@code horizonDays} days starting at the origin date. Bit {@code i} of the
+ * bitset is set when an active booking occupies the day {@code origin + i}. The
+ * bookings themselves are kept alongside the bitset so that a changed or removed
+ * booking only clears the days no other booking occupies.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class PropertyCalendar {
+
+    private final long originDay;
+    private final int horizonDays;
+    private final BitSet bookedDays;
+    private final Map<Long, long[]> bookings = new HashMap<>();
+
+    PropertyCalendar(LocalDate origin, int horizonDays) {
+        this.originDay = origin.toEpochDay();
+        this.horizonDays = horizonDays;
+        this.bookedDays = new BitSet(horizonDays);
+    }
+
+    LocalDate getOrigin() {
+        return LocalDate.ofEpochDay(originDay);
+    }
+
+    /**
+     * Checks that no active booking occupies a date of a covered range.
+     *
+     * @param startDate the first date of the range
+     * @param endDate the last date of the range
+     * @param excludedBookingId the ID of a booking to ignore, or null
+     * @return true if the range is free
+     */
+    synchronized boolean isFree(LocalDate startDate, LocalDate endDate, Long excludedBookingId) {
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        if (excludedBookingId == null || !bookings.containsKey(excludedBookingId)) {
+            int next = bookedDays.nextSetBit(offset(start));
+            return next < 0 || next > offset(end);
+        }
+        for (Map.Entry<Long, long[]> booking : bookings.entrySet()) {
+            long[] days = booking.getValue();
+            if (!booking.getKey().equals(excludedBookingId) && days[0] <= end && days[1] >= start) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the dates of a booking, replacing any dates previously recorded for it.
+     *
+     * @param bookingId the ID of the booking
+     * @param startDate the check-in date
+     * @param endDate the check-out date
+     * @param active false if the booking no longer occupies its dates
+     */
+    synchronized void put(Long bookingId, LocalDate startDate, LocalDate endDate, boolean active) {
+        remove(bookingId);
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        if (active && end >= originDay && start < originDay + horizonDays) {
+            bookings.put(bookingId, new long[]{start, end});
+            mark(start, end);
+        }
+    }
+
+    /**
+     * Forgets a booking and frees the days no other booking occupies.
+     *
+     * @param bookingId the ID of the booking
+     */
+    synchronized void remove(Long bookingId) {
+        long[] removed = bookings.remove(bookingId);
+        if (removed == null) {
+            return;
+        }
+        int from = offset(removed[0]);
+        int to = offset(removed[1]);
+        if (from <= to) {
+            bookedDays.clear(from, to + 1);
+        }
+        for (long[] days : bookings.values()) {
+            if (days[0] <= removed[1] && days[1] >= removed[0]) {
+                mark(Math.max(days[0], removed[0]), Math.min(days[1], removed[1]));
+            }
+        }
+    }
+
+    private void mark(long start, long end) {
+        int from = offset(start);
+        int to = offset(end);
+        if (from <= to) {
+            bookedDays.set(from, to + 1);
+        }
+    }
+
+    /**
+     * Converts an epoch day to a bit index, clamped to the horizon.
+     */
+    private int offset(long epochDay) {
+        return (int) Math.max(0, Math.min(horizonDays - 1, epochDay - originDay));
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Package containing in-memory availability structures for the VacationStay rental application.
+ * <p>
+ * This package contains per-property booking calendars that answer availability
+ * checks without querying the database. Calendars are loaded lazily, bounded in
+ * number, and kept up to date through the events published by the service layer.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.vacationstay.availability;
@@ -0,0 +1,19 @@
+package com.vacationstay.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background tasks.
+ * <p>
+ * Scheduled tasks live in the {@code com.vacationstay.task} package.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
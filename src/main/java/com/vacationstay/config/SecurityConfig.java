@@ -1,12 +1,18 @@
 package com.vacationstay.config;
 
+import com.vacationstay.security.BoundedPasswordEncoder;
 import com.vacationstay.security.CustomOAuth2UserService;
+import com.vacationstay.security.FormLoginFailureHandler;
 import com.vacationstay.security.JwtAuthenticationEntryPoint;
 import com.vacationstay.security.JwtAuthenticationFilter;
 import com.vacationstay.security.OAuth2AuthenticationSuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -36,6 +42,7 @@ public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final FormLoginFailureHandler formLoginFailureHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -58,13 +65,15 @@ public class SecurityConfig {
                 .requestMatchers("/", "/properties", "/properties/**", "/css/**", "/js/**", "/images/**", "/h2-console/**", "/error/**").permitAll()
                 // Public API endpoints (no authentication required)
                 .requestMatchers("/api/auth/login", "/api/auth/register").permitAll()
+                // Bulk property import writes without limit, so it requires a signed-in user
+                .requestMatchers(HttpMethod.POST, "/api/properties/import").authenticated()
                 .requestMatchers("/api/properties/**").permitAll()
                 // OAuth2 and form login endpoints
                 .requestMatchers("/oauth2/**", "/login/**", "/register").permitAll()
                 // Protected web pages (form-based authentication)
                 .requestMatchers("/dashboard", "/bookings/**", "/reviews/add").authenticated()
                 // JWT-only API endpoints (require valid JWT token)
-                .requestMatchers("/api/bookings/**", "/api/auth/me").authenticated()
+                .requestMatchers("/api/bookings/**", "/api/auth/me", "/api/auth/logout").authenticated()
                 .anyRequest().authenticated()
             )
             // Configure session management - stateless for APIs, stateful for web
@@ -79,6 +88,7 @@ public class SecurityConfig {
             .formLogin(form -> form
                 .loginPage("/login")
                 .defaultSuccessUrl("/")
+                .failureHandler(formLoginFailureHandler)
                 .permitAll()
             )
             // OAuth2 login for web interface
@@ -122,14 +132,27 @@ public class SecurityConfig {
     /**
      * Creates a password encoder bean.
      * <p>
-     * This method provides a BCryptPasswordEncoder for secure password hashing.
+     * This method provides a BCryptPasswordEncoder for secure password hashing, run on a
+     * bounded executor so that hashing cannot occupy every request thread. Stored hashes
+     * with a lower cost than the configured strength are upgraded on the next login.
      * </p>
      *
+     * @param meterRegistry the registry for the hashing executor metrics, if available
+     * @param strength the BCrypt cost factor
+     * @param threads the number of hashing threads, or 0 for one per available processor
+     * @param queueCapacity the number of hashing requests that may wait for a thread
+     * @param timeoutMs the maximum time a request waits for its hashing result
      * @return the password encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry,
+                                           @Value("${app.security.bcrypt-strength:10}") int strength,
+                                           @Value("${app.security.password-hashing.threads:0}") int threads,
+                                           @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${app.security.password-hashing.timeout-ms:10000}") long timeoutMs) {
+        int hashingThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), hashingThreads, queueCapacity,
+                timeoutMs, meterRegistry.getIfAvailable());
     }
     
     /**
@@ -1,10 +1,15 @@
 package com.vacationstay.controller.api;
 
 import com.vacationstay.dto.UserDTO;
+import com.vacationstay.exception.TooManyRequestsException;
 import com.vacationstay.security.JwtUtil;
+import com.vacationstay.security.PasswordHashingBusyException;
+import com.vacationstay.security.TokenRevocationList;
 import com.vacationstay.service.UserService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,8 +40,11 @@ import java.util.Map;
 @Slf4j
 public class AuthApiController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
     private final UserService userService;
 
     /**
@@ -75,6 +83,8 @@ public class AuthApiController {
             error.put("error", "Invalid credentials");
             error.put("message", "Email or password is incorrect");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        } catch (PasswordHashingBusyException e) {
+            throw new TooManyRequestsException(e.getMessage(), e.getRetryAfterSeconds(), e);
         }
     }
 
@@ -104,7 +114,8 @@ public class AuthApiController {
             UserDTO createdUser = userService.createUser(userDTO);
 
             // Generate JWT token for the new user
-            String jwt = jwtUtil.generateToken(createdUser.getEmail());
+            String jwt = jwtUtil.generateToken(createdUser.getId(), createdUser.getEmail(), createdUser.getName(),
+                    createdUser.getRoles());
 
             Map<String, Object> response = new HashMap<>();
             response.put("message", "User registered successfully");
@@ -116,6 +127,8 @@ public class AuthApiController {
             log.info("New user registered via API: {}", signUpRequest.getEmail());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error registering user: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -153,6 +166,33 @@ public class AuthApiController {
         }
     }
 
+    /**
+     * Revokes the JWT presented with the request, so it can no longer be used even
+     * though it has not expired.
+     *
+     * @param authorization the Authorization header carrying the bearer token
+     * @return ResponseEntity containing a confirmation message or error
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Claims claims = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? jwtUtil.parseToken(authorization.substring(BEARER_PREFIX.length()))
+                : null;
+        if (claims == null || claims.getId() == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Invalid token");
+            error.put("message", "The token cannot be revoked");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+        log.info("User {} logged out via API", claims.getSubject());
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Logged out successfully");
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Request class for user login.
      */
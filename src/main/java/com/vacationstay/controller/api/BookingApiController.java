@@ -1,19 +1,25 @@
 package com.vacationstay.controller.api;
 
 import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.dto.ExportFormat;
 import com.vacationstay.exception.ErrorResponse;
 import com.vacationstay.exception.ResourceNotFoundException;
 import com.vacationstay.exception.ValidationException;
 import com.vacationstay.service.BookingService;
+import com.vacationstay.service.ExportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -38,6 +44,7 @@ import java.util.Map;
 public class BookingApiController {
 
     private final BookingService bookingService;
+    private final ExportService exportService;
 
     /**
      * Retrieves all bookings (JWT authentication required).
@@ -52,6 +59,38 @@ public class BookingApiController {
         return ResponseEntity.ok(bookingService.getAllBookings());
     }
 
+    /**
+     * Exports every booking as a file download (JWT authentication required).
+     * <p>
+     * Rows are streamed from a database cursor to the response as they are read, so the
+     * export runs in constant memory whatever the number of bookings. The export runs
+     * asynchronously with the export timeout rather than the default async timeout.
+     * </p>
+     *
+     * @param format optional output format: ndjson (default) or csv
+     * @param gzip whether to gzip-compress the output
+     * @param authentication the JWT authentication context
+     * @param response the HTTP response the export is written to
+     * @return the asynchronous task streaming the export
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportBookings(
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            Authentication authentication,
+            HttpServletResponse response) {
+        validateJwtAuthentication(authentication);
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        log.info("Exporting all bookings as {} for authenticated user: {}", exportFormat, authentication.getName());
+        response.setContentType(exportFormat.getContentType(gzip));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportFormat.fileName("bookings", gzip)).build().toString());
+        return new WebAsyncTask<>(exportService.getTimeoutMs(), () -> {
+            exportService.exportBookings(exportFormat, gzip, response.getOutputStream());
+            return null;
+        });
+    }
+
     /**
      * Retrieves a specific booking by its ID (JWT authentication required).
      *
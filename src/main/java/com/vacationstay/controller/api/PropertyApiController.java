@@ -1,21 +1,41 @@
 package com.vacationstay.controller.api;
 
+import com.vacationstay.dto.DateRangeDTO;
+import com.vacationstay.dto.ExportFormat;
+import com.vacationstay.dto.PropertyClusterDTO;
 import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyImportReport;
+import com.vacationstay.dto.PropertyPage;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
 import com.vacationstay.exception.ErrorResponse;
 import com.vacationstay.exception.ResourceNotFoundException;
 import com.vacationstay.exception.ValidationException;
+import com.vacationstay.service.BookingService;
+import com.vacationstay.service.ExportService;
+import com.vacationstay.service.PropertyImportService;
 import com.vacationstay.service.PropertyService;
+import com.vacationstay.service.PropertyValidation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -36,9 +56,27 @@ import java.util.Map;
 public class PropertyApiController {
 
     private final PropertyService propertyService;
+    private final BookingService bookingService;
+    private final PropertyImportService propertyImportService;
+    private final ExportService exportService;
 
     /**
-     * Retrieves all properties or searches for properties based on filter criteria.
+     * Header carrying the cursor of the next page of a property listing.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_BOOKED_RANGE_DAYS = 90;
+    private static final int MAX_BOOKED_RANGE_DAYS = 731;
+
+    /**
+     * Retrieves one page of properties, optionally filtered by criteria.
+     * <p>
+     * Pages are keyset-paginated: pass the value of the {@value #NEXT_CURSOR_HEADER}
+     * response header as {@code cursor} to fetch the next page. The header is absent on
+     * the last page.
+     * </p>
      *
      * @param location optional location filter
      * @param minPrice optional minimum price filter
@@ -46,7 +84,26 @@ public class PropertyApiController {
      * @param bedrooms optional minimum bedrooms filter
      * @param bathrooms optional minimum bathrooms filter
      * @param guests optional minimum guests filter
-     * @return ResponseEntity containing a list of properties
+     * @param amenities optional amenities the property must all offer
+     * @param anyAmenities optional amenities of which the property must offer at least one
+     * @param q optional full-text query over title, description, location and amenities,
+     *          analyzed with the rules of the request locale's language
+     * @param latitude optional latitude of the search center, in degrees
+     * @param longitude optional longitude of the search center, in degrees
+     * @param radiusKm optional maximum distance from the search center, in kilometers
+     * @param minLatitude optional southern edge of a bounding box
+     * @param maxLatitude optional northern edge of a bounding box
+     * @param minLongitude optional western edge of a bounding box; greater than the eastern
+     *                     edge if the box crosses the antimeridian
+     * @param maxLongitude optional eastern edge of a bounding box
+     * @param sort optional sort order: price, createdAt, rating, relevance or distance;
+     *             defaults to relevance with a text query, to distance with a search
+     *             center and to createdAt otherwise
+     * @param direction optional sort direction: asc or desc
+     * @param cursor optional cursor returned with the previous page
+     * @param limit the maximum number of properties to return (1-100)
+     * @param locale the request locale
+     * @return ResponseEntity containing a page of properties
      */
     @GetMapping
     public ResponseEntity<List<PropertyDTO>> getAllProperties(
@@ -55,15 +112,148 @@ public class PropertyApiController {
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Integer bedrooms,
             @RequestParam(required = false) Integer bathrooms,
-            @RequestParam(required = false) Integer guests) {
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) List<String> anyAmenities,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Double minLatitude,
+            @RequestParam(required = false) Double maxLatitude,
+            @RequestParam(required = false) Double minLongitude,
+            @RequestParam(required = false) Double maxLongitude,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            Locale locale) {
         
-        if (location != null || minPrice != null || maxPrice != null || 
-            bedrooms != null || bathrooms != null || guests != null) {
-            return ResponseEntity.ok(propertyService.searchProperties(
-                    location, minPrice, maxPrice, bedrooms, bathrooms, guests));
+        validateLimit(limit);
+        PropertySearchCriteria criteria = buildCriteria(location, minPrice, maxPrice, bedrooms, bathrooms, guests,
+                amenities, anyAmenities, q, latitude, longitude, radiusKm,
+                minLatitude, maxLatitude, minLongitude, maxLongitude, locale);
+        PropertySort propertySort = resolveSort(criteria, sort);
+        Sort.Direction sortDirection = propertySort.directionFromParameter(direction);
+        
+        PropertyPage page = propertyService.getPropertyPage(criteria, propertySort, sortDirection, cursor, limit);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
         }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Searches properties and returns one page of results with facet counts.
+     * <p>
+     * Takes the same parameters as {@link #getAllProperties}. The response holds the
+     * page, the cursor of the next page (null on the last page) and counts over all the
+     * matches: a price histogram, cumulative bedroom, bathroom and guest counts, and
+     * amenity counts.
+     * </p>
+     *
+     * @return ResponseEntity containing a page of properties with facet counts
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PropertyPage> searchProperties(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) Integer bathrooms,
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) List<String> anyAmenities,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Double minLatitude,
+            @RequestParam(required = false) Double maxLatitude,
+            @RequestParam(required = false) Double minLongitude,
+            @RequestParam(required = false) Double maxLongitude,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            Locale locale) {
+        validateLimit(limit);
+        PropertySearchCriteria criteria = buildCriteria(location, minPrice, maxPrice, bedrooms, bathrooms, guests,
+                amenities, anyAmenities, q, latitude, longitude, radiusKm,
+                minLatitude, maxLatitude, minLongitude, maxLongitude, locale);
+        PropertySort propertySort = resolveSort(criteria, sort);
+        Sort.Direction sortDirection = propertySort.directionFromParameter(direction);
         
-        return ResponseEntity.ok(propertyService.getAllProperties());
+        return ResponseEntity.ok(propertyService.getFacetedPropertyPage(
+                criteria, propertySort, sortDirection, cursor, limit));
+    }
+
+    /**
+     * Retrieves the amenities offered by at least one property, for amenity filters.
+     *
+     * @return ResponseEntity containing the amenity names
+     */
+    @GetMapping("/amenities")
+    public ResponseEntity<List<String>> getAmenities() {
+        return ResponseEntity.ok(propertyService.getAmenities());
+    }
+
+    /**
+     * Retrieves the property clusters to plot on a map viewport.
+     * <p>
+     * Each cluster aggregates the properties of one grid cell of about 64 pixels at the
+     * given zoom, so the response holds at most one cluster per cell on screen. Very
+     * large viewports are clustered with coarser cells.
+     * </p>
+     *
+     * @param minLatitude the southern edge of the viewport
+     * @param maxLatitude the northern edge of the viewport
+     * @param minLongitude the western edge of the viewport; greater than the eastern edge
+     *                     if the viewport crosses the antimeridian
+     * @param maxLongitude the eastern edge of the viewport
+     * @param zoom the map zoom level, from 0 (whole world in one 256-pixel tile) to 22
+     * @return ResponseEntity containing the clusters
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<List<PropertyClusterDTO>> getPropertyClusters(
+            @RequestParam(required = false) Double minLatitude,
+            @RequestParam(required = false) Double maxLatitude,
+            @RequestParam(required = false) Double minLongitude,
+            @RequestParam(required = false) Double maxLongitude,
+            @RequestParam int zoom) {
+        return ResponseEntity.ok(propertyService.getPropertyClusters(
+                minLatitude, maxLatitude, minLongitude, maxLongitude, zoom));
+    }
+
+    /**
+     * Exports every property as a file download.
+     * <p>
+     * Rows are streamed from a database cursor to the response as they are read, so the
+     * export runs in constant memory whatever the size of the catalog. Amenities and
+     * images are JSON arrays, embedded as such in NDJSON and as text in CSV. The export
+     * runs asynchronously with the export timeout rather than the default async timeout.
+     * </p>
+     *
+     * @param format optional output format: ndjson (default) or csv
+     * @param gzip whether to gzip-compress the output
+     * @param response the HTTP response the export is written to
+     * @return the asynchronous task streaming the export
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportProperties(
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        response.setContentType(exportFormat.getContentType(gzip));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportFormat.fileName("properties", gzip)).build().toString());
+        return new WebAsyncTask<>(exportService.getTimeoutMs(), () -> {
+            exportService.exportProperties(exportFormat, gzip, response.getOutputStream());
+            return null;
+        });
     }
 
     /**
@@ -86,6 +276,39 @@ public class PropertyApiController {
         return ResponseEntity.ok(property);
     }
 
+    /**
+     * Retrieves the booked date ranges of a property within a window.
+     * <p>
+     * Ranges are merged and end-exclusive. The window defaults to the next
+     * {@value #DEFAULT_BOOKED_RANGE_DAYS} days and may span at most
+     * {@value #MAX_BOOKED_RANGE_DAYS} days.
+     * </p>
+     *
+     * @param id the ID of the property
+     * @param from optional first date of the window, defaults to today
+     * @param to optional end-exclusive last date of the window
+     * @return ResponseEntity containing the booked date ranges
+     */
+    @GetMapping("/{id}/booked-ranges")
+    public ResponseEntity<List<DateRangeDTO>> getBookedRanges(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (id == null || id <= 0) {
+            throw new ValidationException("Property ID must be a positive number");
+        }
+        LocalDate windowStart = from != null ? from : LocalDate.now();
+        LocalDate windowEnd = to != null ? to : windowStart.plusDays(DEFAULT_BOOKED_RANGE_DAYS);
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new ValidationException("The 'from' date must be before the 'to' date");
+        }
+        if (windowStart.plusDays(MAX_BOOKED_RANGE_DAYS).isBefore(windowEnd)) {
+            throw new ValidationException("The date window may span at most " + MAX_BOOKED_RANGE_DAYS + " days");
+        }
+        
+        return ResponseEntity.ok(bookingService.getBookedRanges(id, windowStart, windowEnd));
+    }
+
     /**
      * Creates a new property.
      *
@@ -100,6 +323,40 @@ public class PropertyApiController {
         return new ResponseEntity<>(createdProperty, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates properties in bulk from a JSON array of property objects.
+     * <p>
+     * The body is parsed as a stream and properties are committed in chunks, so imports
+     * of any size run in bounded memory. Invalid records are skipped and listed in the
+     * report, identified by their position and starting line. Unlike the rest of the
+     * property API, the import requires an authenticated user.
+     * </p>
+     *
+     * @param request the request whose body holds the JSON array
+     * @return ResponseEntity containing the import report
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PropertyImportReport> importProperties(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(propertyImportService.importJsonArray(request.getInputStream()));
+    }
+
+    /**
+     * Creates properties in bulk from newline-delimited JSON, one property object per line.
+     * <p>
+     * Behaves like the JSON array import, except that a malformed line is skipped
+     * instead of ending the import. It also requires an authenticated user.
+     * </p>
+     *
+     * @param request the request whose body holds the NDJSON records
+     * @return ResponseEntity containing the import report
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PropertyImportReport> importPropertiesNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(propertyImportService.importNdjson(request.getInputStream()));
+    }
+
     /**
      * Updates an existing property.
      *
@@ -203,42 +460,46 @@ public class PropertyApiController {
      * Validates property data before creation or update.
      */
     private void validatePropertyDTO(PropertyDTO propertyDTO) {
-        Map<String, String> errors = new HashMap<>();
-        
         if (propertyDTO == null) {
             throw new ValidationException("Property data cannot be null");
         }
         
-        if (propertyDTO.getTitle() == null || propertyDTO.getTitle().trim().isEmpty()) {
-            errors.put("title", "Property title is required");
-        }
-        
-        if (propertyDTO.getDescription() == null || propertyDTO.getDescription().trim().isEmpty()) {
-            errors.put("description", "Property description is required");
-        }
-        
-        if (propertyDTO.getLocation() == null || propertyDTO.getLocation().trim().isEmpty()) {
-            errors.put("location", "Property location is required");
-        }
-        
-        if (propertyDTO.getPrice() == null || propertyDTO.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
-            errors.put("price", "Property price must be greater than 0");
-        }
-        
-        if (propertyDTO.getMaxGuests() == null || propertyDTO.getMaxGuests() <= 0) {
-            errors.put("maxGuests", "Maximum guests must be greater than 0");
-        }
-        
-        if (propertyDTO.getBedrooms() == null || propertyDTO.getBedrooms() < 0) {
-            errors.put("bedrooms", "Number of bedrooms cannot be negative");
-        }
-        
-        if (propertyDTO.getBathrooms() == null || propertyDTO.getBathrooms() < 0) {
-            errors.put("bathrooms", "Number of bathrooms cannot be negative");
-        }
-        
+        Map<String, String> errors = PropertyValidation.validate(propertyDTO);
         if (!errors.isEmpty()) {
             throw new ValidationException("Property validation failed", errors);
         }
     }
-}
\ No newline at end of file
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static PropertySearchCriteria buildCriteria(String location, BigDecimal minPrice, BigDecimal maxPrice,
+                                                        Integer bedrooms, Integer bathrooms, Integer guests,
+                                                        List<String> amenities, List<String> anyAmenities, String q,
+                                                        Double latitude, Double longitude, Double radiusKm,
+                                                        Double minLatitude, Double maxLatitude,
+                                                        Double minLongitude, Double maxLongitude, Locale locale) {
+        return PropertySearchCriteria.builder()
+                .location(location).minPrice(minPrice).maxPrice(maxPrice)
+                .bedrooms(bedrooms).bathrooms(bathrooms).guests(guests)
+                .amenities(amenities).anyAmenities(anyAmenities)
+                .text(q).locale(locale)
+                .latitude(latitude).longitude(longitude).radiusKm(radiusKm)
+                .minLatitude(minLatitude).maxLatitude(maxLatitude)
+                .minLongitude(minLongitude).maxLongitude(maxLongitude)
+                .build();
+    }
+
+    /**
+     * Resolves the sort parameter, defaulting to relevance with a text query, to
+     * distance with a search center and to creation time otherwise.
+     */
+    private static PropertySort resolveSort(PropertySearchCriteria criteria, String sort) {
+        PropertySort defaultSort = criteria.hasText() ? PropertySort.RELEVANCE
+                : criteria.hasCenter() ? PropertySort.DISTANCE : PropertySort.CREATED_AT;
+        return PropertySort.fromParameter(sort, defaultSort);
+    }
+}
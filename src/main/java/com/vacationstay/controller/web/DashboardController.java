@@ -1,9 +1,8 @@
 package com.vacationstay.controller.web;
 
-import com.vacationstay.dto.BookingDTO;
-import com.vacationstay.dto.PropertyDTO;
-import com.vacationstay.service.BookingService;
-import com.vacationstay.service.PropertyService;
+import com.vacationstay.dto.DashboardView;
+import com.vacationstay.security.UserPrincipal;
+import com.vacationstay.service.DashboardService;
 import com.vacationstay.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -13,27 +12,26 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final BookingService bookingService;
-    private final PropertyService propertyService;
+    private final DashboardService dashboardService;
     private final UserService userService;
 
     @GetMapping
     public String dashboard(@AuthenticationPrincipal UserDetails userDetails, Model model) {
-        Long userId = userService.getUserIdByEmail(userDetails.getUsername());
+        // Principals built by the application already carry the user ID
+        Long userId = userDetails instanceof UserPrincipal userPrincipal && userPrincipal.getId() != null
+                ? userPrincipal.getId()
+                : userService.getUserIdByEmail(userDetails.getUsername());
         
-        List<BookingDTO> userBookings = bookingService.getBookingsByUser(userId);
-        List<PropertyDTO> userProperties = propertyService.getPropertiesByOwner(userId.toString());
+        DashboardView dashboard = dashboardService.loadDashboard(userId);
         
-        model.addAttribute("userBookings", userBookings);
-        model.addAttribute("userProperties", userProperties);
-        model.addAttribute("user", userService.getUserById(userId));
+        model.addAttribute("userBookings", dashboard.getBookings());
+        model.addAttribute("userProperties", dashboard.getProperties());
+        model.addAttribute("user", dashboard.getUser());
         
         return "dashboard";
     }
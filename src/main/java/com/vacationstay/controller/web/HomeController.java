@@ -19,14 +19,14 @@ import java.util.List;
 @Slf4j
 public class HomeController {
 
+    private static final int FEATURED_COUNT = 6;
+
     private final PropertyService propertyService;
 
     @GetMapping("/")
     public String home(Model model) {
         try {
-            List<PropertyDTO> featuredProperties = propertyService.getAllProperties().stream()
-                    .limit(6)
-                    .toList();
+            List<PropertyDTO> featuredProperties = propertyService.getFeaturedProperties(FEATURED_COUNT);
             model.addAttribute("featuredProperties", featuredProperties);
             return "index";
         } catch (Exception e) {
@@ -1,10 +1,14 @@
 package com.vacationstay.controller.web;
 
 import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyPage;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
 import com.vacationstay.service.BookingService;
 import com.vacationstay.service.PropertyService;
 import com.vacationstay.service.ReviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 
 @Controller
 @RequestMapping("/properties")
@@ -25,6 +30,9 @@ public class PropertyController {
     private final BookingService bookingService;
     private final ReviewService reviewService;
 
+    private static final int PAGE_SIZE = 12;
+    private static final int BOOKABLE_WINDOW_DAYS = 365;
+
     @GetMapping
     public String listProperties(
             @RequestParam(required = false) String location,
@@ -33,25 +41,38 @@ public class PropertyController {
             @RequestParam(required = false) Integer bedrooms,
             @RequestParam(required = false) Integer bathrooms,
             @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            Locale locale,
             Model model) {
         
-        List<PropertyDTO> properties;
-        
-        if (location != null || minPrice != null || maxPrice != null || 
-            bedrooms != null || bathrooms != null || guests != null) {
-            properties = propertyService.searchProperties(
-                    location, minPrice, maxPrice, bedrooms, bathrooms, guests);
-        } else {
-            properties = propertyService.getAllProperties();
-        }
+        PropertySearchCriteria criteria = PropertySearchCriteria.builder()
+                .location(location).minPrice(minPrice).maxPrice(maxPrice)
+                .bedrooms(bedrooms).bathrooms(bathrooms).guests(guests)
+                .amenities(amenities)
+                .text(q).locale(locale)
+                .build();
+        PropertySort propertySort = PropertySort.fromParameter(sort,
+                criteria.hasText() ? PropertySort.RELEVANCE : PropertySort.CREATED_AT);
+        Sort.Direction direction = propertySort.getDefaultDirection();
+        PropertyPage page = propertyService.getFacetedPropertyPage(criteria, propertySort, direction, cursor, PAGE_SIZE);
         
-        model.addAttribute("properties", properties);
+        model.addAttribute("properties", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("facets", page.getFacets());
+        model.addAttribute("paged", cursor != null && !cursor.isBlank());
+        model.addAttribute("sort", propertySort.getParameter());
+        model.addAttribute("q", q);
         model.addAttribute("location", location);
         model.addAttribute("minPrice", minPrice);
         model.addAttribute("maxPrice", maxPrice);
         model.addAttribute("bedrooms", bedrooms);
         model.addAttribute("bathrooms", bathrooms);
         model.addAttribute("guests", guests);
+        model.addAttribute("amenities", amenities != null ? amenities : List.of());
+        model.addAttribute("amenityOptions", propertyService.getAmenities());
         
         return "properties";
     }
@@ -62,9 +83,10 @@ public class PropertyController {
         model.addAttribute("property", property);
         model.addAttribute("reviews", reviewService.getReviewsByProperty(id));
         
-        // Get booked dates for the property to disable them in the calendar
-        List<LocalDate> bookedDates = bookingService.getBookedDatesForProperty(id);
-        model.addAttribute("bookedDates", bookedDates);
+        // Get the booked ranges of the bookable window to disable them in the calendar
+        LocalDate today = LocalDate.now();
+        model.addAttribute("bookedRanges",
+                bookingService.getBookedRanges(id, today, today.plusDays(BOOKABLE_WINDOW_DAYS)));
         
         return "property-detail";
     }
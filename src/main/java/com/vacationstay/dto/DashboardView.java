@@ -0,0 +1,34 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The data shown on a user's dashboard page.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardView {
+    /**
+     * The user the dashboard belongs to.
+     */
+    private UserDTO user;
+
+    /**
+     * The bookings made by the user.
+     */
+    private List<BookingDTO> bookings;
+
+    /**
+     * The properties owned by the user.
+     */
+    private List<PropertyDTO> properties;
+}
@@ -0,0 +1,32 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for a half-open range of dates.
+ * <p>
+ * The range covers every date from {@code start} inclusive to {@code end} exclusive.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DateRangeDTO {
+    /**
+     * The first date of the range.
+     */
+    private LocalDate start;
+
+    /**
+     * The date after the last date of the range.
+     */
+    private LocalDate end;
+}
@@ -0,0 +1,78 @@
+package com.vacationstay.dto;
+
+import com.vacationstay.exception.ValidationException;
+
+/**
+ * Output formats supported by the data export endpoints.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum ExportFormat {
+
+    /**
+     * Newline-delimited JSON, one object per row.
+     */
+    NDJSON("ndjson", "application/x-ndjson"),
+
+    /**
+     * Comma-separated values with a header row, as described in RFC 4180.
+     */
+    CSV("csv", "text/csv");
+
+    private final String parameter;
+    private final String contentType;
+
+    ExportFormat(String parameter, String contentType) {
+        this.parameter = parameter;
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the value used for this format in request parameters, also used as file extension
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Returns the media type of an export in this format.
+     *
+     * @param gzip whether the export is gzip-compressed
+     * @return the media type
+     */
+    public String getContentType(boolean gzip) {
+        return gzip ? "application/gzip" : contentType;
+    }
+
+    /**
+     * Returns the file name suggested for an export in this format.
+     *
+     * @param baseName the file name without extension
+     * @param gzip whether the export is gzip-compressed
+     * @return the file name with extension
+     */
+    public String fileName(String baseName, boolean gzip) {
+        return baseName + "." + parameter + (gzip ? ".gz" : "");
+    }
+
+    /**
+     * Resolves a format from a request parameter.
+     *
+     * @param value the request parameter value, or null for NDJSON
+     * @return the matching format
+     * @throws ValidationException if the value does not name a supported format
+     */
+    public static ExportFormat fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new ValidationException("Unsupported export format: " + value + " (expected ndjson or csv)");
+    }
+}
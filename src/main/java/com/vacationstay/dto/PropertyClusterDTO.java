@@ -0,0 +1,42 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for a cluster of properties plotted as one map marker.
+ * <p>
+ * A cluster aggregates the properties located in one cell of the map grid.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyClusterDTO {
+    /**
+     * The mean latitude of the properties in the cluster.
+     */
+    private double latitude;
+
+    /**
+     * The mean longitude of the properties in the cluster.
+     */
+    private double longitude;
+
+    /**
+     * The number of properties in the cluster.
+     */
+    private int count;
+
+    /**
+     * The lowest nightly price in the cluster, or null if no property has a price.
+     */
+    private BigDecimal minPrice;
+}
@@ -0,0 +1,88 @@
+package com.vacationstay.dto;
+
+import com.vacationstay.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated property listing.
+ * <p>
+ * A cursor records the sort order and the (sort key, ID) pair of the last property
+ * on a page; the next page starts strictly after that pair. Cursors are exchanged with
+ * clients as opaque URL-safe strings.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * The sort order the cursor belongs to.
+     */
+    private final PropertySort sort;
+
+    /**
+     * The sort direction the cursor belongs to.
+     */
+    private final Sort.Direction direction;
+
+    /**
+     * The sort key of the last property returned.
+     */
+    private final Object key;
+
+    /**
+     * The ID of the last property returned.
+     */
+    private final Long id;
+
+    /**
+     * Encodes this cursor as an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sort.name(), direction.name(), String.valueOf(key), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor and checks that it belongs to the requested sort order.
+     *
+     * @param encoded the encoded cursor
+     * @param sort the requested sort order
+     * @param direction the requested sort direction
+     * @return the decoded cursor
+     * @throws ValidationException if the cursor is malformed or was issued for another sort order
+     */
+    public static PropertyCursor decode(String encoded, PropertySort sort, Sort.Direction direction) {
+        PropertyCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unrecognized cursor format");
+            }
+            PropertySort cursorSort = PropertySort.valueOf(parts[1]);
+            cursor = new PropertyCursor(cursorSort, Sort.Direction.valueOf(parts[2]),
+                    cursorSort.parseKey(parts[3]), Long.valueOf(parts[4]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+        if (cursor.sort != sort || cursor.direction != direction) {
+            throw new ValidationException("Cursor does not match the requested sort order");
+        }
+        return cursor;
+    }
+}
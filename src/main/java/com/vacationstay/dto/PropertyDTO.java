@@ -43,6 +43,10 @@ public class PropertyDTO {
      */
     private String location;
     
+    private Double latitude;
+    
+    private Double longitude;
+    
     /**
      * Nightly rental price of the property.
      */
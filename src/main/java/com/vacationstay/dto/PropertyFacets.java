@@ -0,0 +1,78 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the facet counts of a property search.
+ * <p>
+ * Counts cover every property matching the search, not only the current page. Room and
+ * guest counts are cumulative, matching the "at least" semantics of those filters.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacets {
+    /**
+     * The number of matching properties.
+     */
+    private int total;
+
+    /**
+     * The price histogram, from the lowest band up to the highest non-empty one.
+     */
+    private List<PriceBand> priceBands;
+
+    /**
+     * The number of matches with at least the key number of bedrooms.
+     */
+    private Map<Integer, Integer> bedrooms;
+
+    /**
+     * The number of matches with at least the key number of bathrooms.
+     */
+    private Map<Integer, Integer> bathrooms;
+
+    /**
+     * The number of matches accommodating at least the key number of guests.
+     */
+    private Map<Integer, Integer> guests;
+
+    /**
+     * The number of matches offering each amenity, most frequent first.
+     */
+    private Map<String, Integer> amenities;
+
+    /**
+     * One band of the price histogram.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBand {
+        /**
+         * The lowest nightly price in the band, inclusive.
+         */
+        private BigDecimal min;
+
+        /**
+         * The nightly price ending the band, exclusive, or null for the open-ended top band.
+         */
+        private BigDecimal max;
+
+        /**
+         * The number of matches priced within the band.
+         */
+        private int count;
+    }
+}
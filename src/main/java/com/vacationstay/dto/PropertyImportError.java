@@ -0,0 +1,39 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * A record rejected by a bulk property import.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportError {
+    /**
+     * The 1-based position of the record in the import.
+     */
+    private long record;
+
+    /**
+     * The line of the request body where the record starts.
+     */
+    private long line;
+
+    /**
+     * Why the record was rejected.
+     */
+    private String message;
+
+    /**
+     * Validation errors keyed by field name, or null if the record could not be read.
+     */
+    private Map<String, String> fieldErrors;
+}
@@ -0,0 +1,43 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk property import.
+ * <p>
+ * Only the first errors are listed; {@code errorsTruncated} tells whether more records
+ * were rejected than reported.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportReport {
+    /**
+     * The number of properties created.
+     */
+    private long imported;
+
+    /**
+     * The number of records rejected.
+     */
+    private long failed;
+
+    /**
+     * The reported rejected records.
+     */
+    private List<PropertyImportError> errors;
+
+    /**
+     * Whether rejected records were left out of {@code errors}.
+     */
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,44 @@
+package com.vacationstay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated property listing.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyPage {
+    /**
+     * The properties on this page, in listing order.
+     */
+    private List<PropertyDTO> items;
+
+    /**
+     * The encoded cursor of the next page, or null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * The facet counts of every match of the listing, or null if they were not requested.
+     */
+    private PropertyFacets facets;
+
+    /**
+     * Creates a page without facet counts.
+     *
+     * @param items the properties on this page
+     * @param nextCursor the encoded cursor of the next page, or null
+     */
+    public PropertyPage(List<PropertyDTO> items, String nextCursor) {
+        this(items, nextCursor, null);
+    }
+}
@@ -0,0 +1,216 @@
+package com.vacationstay.dto;
+
+import com.vacationstay.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filter criteria for property searches.
+ * <p>
+ * Every criterion is optional; a {@code null} value means the filter is not applied.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertySearchCriteria {
+    /**
+     * Location text to match against the property location.
+     */
+    private String location;
+
+    /**
+     * The minimum nightly price.
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * The maximum nightly price.
+     */
+    private BigDecimal maxPrice;
+
+    /**
+     * The minimum number of bedrooms.
+     */
+    private Integer bedrooms;
+
+    /**
+     * The minimum number of bathrooms.
+     */
+    private Integer bathrooms;
+
+    /**
+     * The minimum number of guests the property must accommodate.
+     */
+    private Integer guests;
+
+    /**
+     * Amenities the property must all offer, matched case-insensitively.
+     */
+    private List<String> amenities;
+
+    /**
+     * Amenities of which the property must offer at least one, matched case-insensitively.
+     */
+    private List<String> anyAmenities;
+
+    /**
+     * Full-text query matched against the title, description, location and amenities.
+     */
+    private String text;
+
+    /**
+     * The locale whose language rules are applied to the text query; English if null.
+     */
+    private Locale locale;
+
+    /**
+     * Latitude of the search center in degrees, for radius searches and distance sorting.
+     */
+    private Double latitude;
+
+    /**
+     * Longitude of the search center in degrees, for radius searches and distance sorting.
+     */
+    private Double longitude;
+
+    /**
+     * The maximum distance from the search center in kilometers.
+     */
+    private Double radiusKm;
+
+    /**
+     * Southern edge of the bounding box in degrees.
+     */
+    private Double minLatitude;
+
+    /**
+     * Northern edge of the bounding box in degrees.
+     */
+    private Double maxLatitude;
+
+    /**
+     * Western edge of the bounding box in degrees; greater than the eastern edge if the
+     * box crosses the antimeridian.
+     */
+    private Double minLongitude;
+
+    /**
+     * Eastern edge of the bounding box in degrees.
+     */
+    private Double maxLongitude;
+
+    /**
+     * Indicates whether a search center is set.
+     *
+     * @return true if the latitude and longitude of the center are set
+     */
+    public boolean hasCenter() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * Indicates whether a radius filter is set.
+     *
+     * @return true if the radius is set
+     */
+    public boolean hasRadius() {
+        return radiusKm != null;
+    }
+
+    /**
+     * Indicates whether a bounding box filter is set.
+     *
+     * @return true if any edge of the bounding box is set
+     */
+    public boolean hasBoundingBox() {
+        return minLatitude != null || maxLatitude != null || minLongitude != null || maxLongitude != null;
+    }
+
+    /**
+     * Checks that the geographic criteria are complete and within range.
+     *
+     * @throws ValidationException if a coordinate is out of range, the center or the
+     *         bounding box is incomplete, or a radius is given without a center
+     */
+    public void validate() {
+        if ((latitude == null) != (longitude == null)) {
+            throw new ValidationException("Latitude and longitude must be given together");
+        }
+        if (hasCenter()) {
+            checkLatitude(latitude);
+            checkLongitude(longitude);
+        }
+        if (hasRadius() && (!hasCenter() || !(radiusKm > 0))) {
+            throw new ValidationException("A radius must be positive and requires a latitude and longitude");
+        }
+        if (hasBoundingBox()) {
+            if (minLatitude == null || maxLatitude == null || minLongitude == null || maxLongitude == null) {
+                throw new ValidationException("A bounding box requires all four edges");
+            }
+            checkLatitude(minLatitude);
+            checkLatitude(maxLatitude);
+            checkLongitude(minLongitude);
+            checkLongitude(maxLongitude);
+            if (minLatitude > maxLatitude) {
+                throw new ValidationException("The minimum latitude of a bounding box cannot exceed the maximum");
+            }
+        }
+    }
+
+    private static void checkLatitude(Double value) {
+        if (!(Math.abs(value) <= 90)) {
+            throw new ValidationException("Latitude must be between -90 and 90");
+        }
+    }
+
+    private static void checkLongitude(Double value) {
+        if (!(Math.abs(value) <= 180)) {
+            throw new ValidationException("Longitude must be between -180 and 180");
+        }
+    }
+
+    /**
+     * Indicates whether a full-text query is set.
+     *
+     * @return true if the text query is not blank
+     */
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+    /**
+     * Indicates whether an amenity filter is set.
+     *
+     * @return true if a required or alternative amenity is named
+     */
+    public boolean hasAmenities() {
+        return hasName(amenities) || hasName(anyAmenities);
+    }
+
+    /**
+     * Indicates whether any filter criterion is set.
+     *
+     * @return true if at least one criterion restricts the results
+     */
+    public boolean hasFilters() {
+        return (location != null && !location.isBlank()) || minPrice != null || maxPrice != null
+                || bedrooms != null || bathrooms != null || guests != null || hasText()
+                || hasRadius() || hasBoundingBox() || hasAmenities();
+    }
+
+    private static boolean hasName(List<String> names) {
+        return names != null && names.stream().anyMatch(name -> name != null && !name.isBlank());
+    }
+}
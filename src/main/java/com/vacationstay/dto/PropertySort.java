@@ -0,0 +1,139 @@
+package com.vacationstay.dto;
+
+import com.vacationstay.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Sort orders supported by paginated property listings.
+ * <p>
+ * Each sort is keyed on a single property attribute, with the property ID as a
+ * tie-breaker so that every position in the listing is unique.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum PropertySort {
+
+    /**
+     * Sort by nightly price, cheapest first by default.
+     */
+    PRICE("price", "price", Sort.Direction.ASC),
+
+    /**
+     * Sort by creation time, newest first by default.
+     */
+    CREATED_AT("createdAt", "createdAt", Sort.Direction.DESC),
+
+    /**
+     * Sort by average rating, best rated first by default.
+     */
+    RATING("rating", "averageRating", Sort.Direction.DESC),
+
+    /**
+     * Sort by full-text relevance, best match first by default. Only valid with a text query.
+     */
+    RELEVANCE("relevance", null, Sort.Direction.DESC),
+
+    /**
+     * Sort by distance from the search center, nearest first by default. Only valid with
+     * a latitude and longitude; properties without coordinates come last.
+     */
+    DISTANCE("distance", null, Sort.Direction.ASC);
+
+    private final String parameter;
+    private final String attribute;
+    private final Sort.Direction defaultDirection;
+
+    PropertySort(String parameter, String attribute, Sort.Direction defaultDirection) {
+        this.parameter = parameter;
+        this.attribute = attribute;
+        this.defaultDirection = defaultDirection;
+    }
+
+    /**
+     * @return the value used for this sort in request parameters
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * @return the name of the sorted entity attribute, or null for {@link #RELEVANCE} and {@link #DISTANCE}
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @return the direction used when none is requested
+     */
+    public Sort.Direction getDefaultDirection() {
+        return defaultDirection;
+    }
+
+    /**
+     * Resolves a sort from a request parameter.
+     *
+     * @param value the request parameter value, or null for the default sort
+     * @return the matching sort
+     * @throws ValidationException if the value does not name a supported sort
+     */
+    public static PropertySort fromParameter(String value) {
+        return fromParameter(value, CREATED_AT);
+    }
+
+    /**
+     * Resolves a sort from a request parameter, with a given default.
+     *
+     * @param value the request parameter value, or null for the default sort
+     * @param defaultSort the sort used when the value is blank
+     * @return the matching sort
+     * @throws ValidationException if the value does not name a supported sort
+     */
+    public static PropertySort fromParameter(String value, PropertySort defaultSort) {
+        if (value == null || value.isBlank()) {
+            return defaultSort;
+        }
+        for (PropertySort sort : values()) {
+            if (sort.parameter.equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new ValidationException("Unsupported sort: " + value + " (expected price, createdAt, rating, relevance or distance)");
+    }
+
+    /**
+     * Resolves a sort direction from a request parameter.
+     *
+     * @param value the request parameter value, or null for the default direction
+     * @return the matching direction
+     * @throws ValidationException if the value is neither "asc" nor "desc"
+     */
+    public Sort.Direction directionFromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return defaultDirection;
+        }
+        return Sort.Direction.fromOptionalString(value.trim().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new ValidationException("Unsupported sort direction: " + value));
+    }
+
+    /**
+     * Parses a sort key previously rendered with {@code String.valueOf}.
+     *
+     * @param value the rendered sort key
+     * @return the typed sort key
+     */
+    public Object parseKey(String value) {
+        return switch (this) {
+            case PRICE -> new BigDecimal(value);
+            case CREATED_AT -> LocalDateTime.parse(value);
+            case RATING, RELEVANCE, DISTANCE -> Double.valueOf(value);
+        };
+    }
+}
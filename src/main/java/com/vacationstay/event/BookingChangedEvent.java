@@ -0,0 +1,22 @@
+package com.vacationstay.event;
+
+import com.vacationstay.model.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a booking is created, updated or cancelled.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class BookingChangedEvent {
+
+    /**
+     * The booking as saved.
+     */
+    private final Booking booking;
+}
@@ -0,0 +1,26 @@
+package com.vacationstay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a booking is deleted.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class BookingDeletedEvent {
+
+    /**
+     * The ID of the deleted booking.
+     */
+    private final Long bookingId;
+
+    /**
+     * The ID of the property the booking was for.
+     */
+    private final Long propertyId;
+}
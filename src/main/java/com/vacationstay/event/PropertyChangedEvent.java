@@ -0,0 +1,26 @@
+package com.vacationstay.event;
+
+import com.vacationstay.model.Property;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a property is created or updated.
+ * <p>
+ * Listeners should subscribe with {@code @TransactionalEventListener} so they only
+ * observe changes that were actually committed.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyChangedEvent {
+
+    /**
+     * The property as it was saved.
+     */
+    private final Property property;
+}
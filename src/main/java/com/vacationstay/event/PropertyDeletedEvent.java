@@ -0,0 +1,21 @@
+package com.vacationstay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a property is deleted.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyDeletedEvent {
+
+    /**
+     * The ID of the deleted property.
+     */
+    private final Long propertyId;
+}
@@ -0,0 +1,26 @@
+package com.vacationstay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when the rating aggregates of a property change.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyRatingChangedEvent {
+
+    /**
+     * The ID of the property.
+     */
+    private final Long propertyId;
+
+    /**
+     * The new average rating of the property.
+     */
+    private final Double averageRating;
+}
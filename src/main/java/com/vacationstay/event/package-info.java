@@ -0,0 +1,12 @@
+/**
+ * Package containing application events for the VacationStay rental application.
+ * <p>
+ * This package contains events published by the service layer when domain data
+ * changes, allowing in-memory indexes and caches to stay consistent with the database.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.vacationstay.event;
@@ -1,6 +1,7 @@
 package com.vacationstay.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -169,6 +170,36 @@ public class GlobalExceptionHandler {
         return modelAndView;
     }
 
+    /**
+     * Handles TooManyRequestsException, asking the client to retry later.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public Object handleTooManyRequestsException(TooManyRequestsException ex, 
+                                               HttpServletRequest request) {
+        log.warn("Request rejected: {}", ex.getMessage());
+        
+        if (isApiRequest(request)) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                    .error("Too Many Requests")
+                    .message(ex.getMessage())
+                    .path(request.getRequestURI())
+                    .build();
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(errorResponse);
+        }
+        
+        ModelAndView modelAndView = new ModelAndView("error/429");
+        modelAndView.setStatus(HttpStatus.TOO_MANY_REQUESTS);
+        modelAndView.addObject("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        modelAndView.addObject("error", "Too Many Requests");
+        modelAndView.addObject("message", ex.getMessage());
+        modelAndView.addObject("path", request.getRequestURI());
+        return modelAndView;
+    }
+
     /**
      * Handles general runtime exceptions.
      */
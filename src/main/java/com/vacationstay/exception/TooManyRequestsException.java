@@ -0,0 +1,22 @@
+package com.vacationstay.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request is rejected because the server is saturated.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public TooManyRequestsException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,88 @@
+package com.vacationstay.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+
+/**
+ * Entity class representing one date of a property held by an active booking.
+ * <p>
+ * The primary key on (property, date) lets the database reject a second booking of
+ * the same property on the same date, whatever happens in the application. Rows are
+ * written when a booking is admitted and removed when it is cancelled, changed or
+ * deleted.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "booked_dates", indexes = @Index(name = "idx_booked_dates_booking_id", columnList = "booking_id"))
+@IdClass(BookedDateId.class)
+@Getter
+@NoArgsConstructor
+public class BookedDate implements Persistable<BookedDateId> {
+
+    /**
+     * The ID of the booked property.
+     */
+    @Id
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    /**
+     * The booked date.
+     */
+    @Id
+    @Column(name = "booked_date")
+    private LocalDate bookedDate;
+
+    /**
+     * The booking holding the date.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "booking_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Booking booking;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Creates the row holding a date for a booking.
+     *
+     * @param booking the booking
+     * @param bookedDate the booked date
+     */
+    public BookedDate(Booking booking, LocalDate bookedDate) {
+        this.propertyId = booking.getProperty().getId();
+        this.bookedDate = bookedDate;
+        this.booking = booking;
+    }
+
+    @Override
+    public BookedDateId getId() {
+        return new BookedDateId(propertyId, bookedDate);
+    }
+
+    /**
+     * Rows are only ever inserted or deleted, so new instances are persisted without a
+     * preliminary select and a duplicate key surfaces as a constraint violation.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
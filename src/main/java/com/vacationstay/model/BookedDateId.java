@@ -0,0 +1,31 @@
+package com.vacationstay.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Composite primary key of a {@link BookedDate}.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookedDateId implements Serializable {
+
+    /**
+     * The ID of the booked property.
+     */
+    private Long propertyId;
+
+    /**
+     * The booked date.
+     */
+    private LocalDate bookedDate;
+}
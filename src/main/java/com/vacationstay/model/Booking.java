@@ -5,7 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,7 +36,9 @@ public class Booking {
      * Unique identifier for the booking.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @GenericGenerator(name = "bookings_seq", type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "bookings_seq"))
     private Long id;
 
     /**
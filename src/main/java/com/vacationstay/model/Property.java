@@ -4,8 +4,12 @@ import jakarta.annotation.PostConstruct;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,7 +28,11 @@ import java.util.List;
  * @since 2023-06-18
  */
 @Entity
-@Table(name = "properties")
+@Table(name = "properties", indexes = {
+        @Index(name = "idx_properties_price_id", columnList = "price, id"),
+        @Index(name = "idx_properties_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_properties_average_rating_id", columnList = "average_rating, id")
+})
 @Data
 @NoArgsConstructor
 public class Property {
@@ -33,7 +41,9 @@ public class Property {
      * Unique identifier for the property.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "properties_seq")
+    @GenericGenerator(name = "properties_seq", type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "properties_seq"))
     private Long id;
 
     /**
@@ -54,6 +64,16 @@ public class Property {
     @Column(nullable = false)
     private String location;
 
+    /**
+     * Latitude of the property in decimal degrees (WGS 84), or null if not geocoded.
+     */
+    private Double latitude;
+
+    /**
+     * Longitude of the property in decimal degrees (WGS 84), or null if not geocoded.
+     */
+    private Double longitude;
+
     /**
      * Nightly rental price of the property.
      */
@@ -96,6 +116,33 @@ public class Property {
     @Column(name = "owner_id")
     private String ownerId;
 
+    /**
+     * Number of reviews submitted for this property.
+     * <p>
+     * Maintained incrementally by the review service in the same transaction as the
+     * review itself, so listings never need to aggregate the reviews table. The rating
+     * columns are written only by bulk statements, never by flushing this entity, so a
+     * concurrent property update cannot overwrite a newer aggregate with a stale one.
+     * </p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+    private Integer ratingCount = 0;
+
+    /**
+     * Sum of all review ratings for this property.
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    /**
+     * Average review rating, derived from {@link #ratingSum} and {@link #ratingCount}.
+     */
+    @ColumnDefault("0")
+    @Column(name = "average_rating", nullable = false, insertable = false, updatable = false)
+    private Double averageRating = 0.0;
+
     /**
      * List of bookings associated with this property.
      */
@@ -0,0 +1,84 @@
+package com.vacationstay.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a JWT revoked before its expiry.
+ * <p>
+ * Tokens are identified by their {@code jti} claim. A row is only needed until the
+ * token would have expired anyway, after which it is pruned.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken implements Persistable<String> {
+
+    /**
+     * The token ID ({@code jti} claim).
+     */
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    /**
+     * When the token itself expires.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * When the token was revoked.
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Creates the record of a revoked token.
+     *
+     * @param jti the token ID
+     * @param expiresAt when the token expires
+     * @param revokedAt when the token was revoked
+     */
+    public RevokedToken(String jti, Instant expiresAt, Instant revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    /**
+     * Rows are only ever inserted or deleted, so new instances are persisted without a
+     * preliminary select.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vacationstay.repository;
+
+import com.vacationstay.model.BookedDate;
+import com.vacationstay.model.BookedDateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for BookedDate entities.
+ * <p>
+ * This interface provides methods for database operations related to the dates held by bookings.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface BookedDateRepository extends JpaRepository<BookedDate, BookedDateId> {
+
+    /**
+     * Releases all dates held by a booking.
+     *
+     * @param bookingId the ID of the booking
+     * @return the number of released dates
+     */
+    @Modifying
+    @Query("DELETE FROM BookedDate d WHERE d.booking.id = :bookingId")
+    int deleteByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * Counts the dates held by a booking.
+     *
+     * @param bookingId the ID of the booking
+     * @return the number of held dates
+     */
+    long countByBookingId(Long bookingId);
+}
@@ -0,0 +1,28 @@
+package com.vacationstay.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the dates occupied by a booking.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface BookingDateRange {
+
+    /**
+     * @return the ID of the booking
+     */
+    Long getId();
+
+    /**
+     * @return the check-in date
+     */
+    LocalDate getStartDate();
+
+    /**
+     * @return the check-out date
+     */
+    LocalDate getEndDate();
+}
@@ -0,0 +1,65 @@
+package com.vacationstay.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the exported columns of a booking.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class BookingExportRow {
+
+    /**
+     * The ID of the booking.
+     */
+    private final Long id;
+
+    /**
+     * The ID of the booked property.
+     */
+    private final Long propertyId;
+
+    /**
+     * The ID of the guest.
+     */
+    private final Long userId;
+
+    /**
+     * The check-in date.
+     */
+    private final LocalDate startDate;
+
+    /**
+     * The check-out date.
+     */
+    private final LocalDate endDate;
+
+    /**
+     * The total price.
+     */
+    private final BigDecimal totalPrice;
+
+    /**
+     * The booking status.
+     */
+    private final String status;
+
+    /**
+     * When the booking was created.
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * When the booking was last updated.
+     */
+    private final LocalDateTime updatedAt;
+}
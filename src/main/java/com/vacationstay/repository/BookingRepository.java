@@ -1,13 +1,19 @@
 package com.vacationstay.repository;
 
 import com.vacationstay.model.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Booking entities.
@@ -23,19 +29,40 @@ import java.util.List;
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     /**
-     * Finds all bookings made by a specific user.
+     * Finds a booking by its ID, fetching the booking user in the same query.
+     *
+     * @param id the ID of the booking
+     * @return the booking, if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Booking> findById(Long id);
+
+    /**
+     * Finds all bookings, fetching the booking user in the same query.
+     *
+     * @return a list of all bookings
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Booking> findAll();
+
+    /**
+     * Finds all bookings made by a specific user, fetching the user in the same query.
      *
      * @param userId the ID of the user
      * @return a list of bookings made by the specified user
      */
+    @EntityGraph(attributePaths = "user")
     List<Booking> findByUserId(Long userId);
     
     /**
-     * Finds all bookings for a specific property.
+     * Finds all bookings for a specific property, fetching the booking users in the same query.
      *
      * @param propertyId the ID of the property
      * @return a list of bookings for the specified property
      */
+    @EntityGraph(attributePaths = "user")
     List<Booking> findByPropertyId(Long propertyId);
     
     /**
@@ -75,4 +102,62 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @return a list of bookings matching the criteria
      */
     List<Booking> findByUserIdAndStatus(Long userId, String status);
-}
\ No newline at end of file
+    
+    /**
+     * Finds the dates of the active (not cancelled) bookings of a property that touch a date range.
+     *
+     * @param propertyId the ID of the property
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the booking date ranges, ordered by check-in date
+     */
+    @Query("SELECT b.id AS id, b.startDate AS startDate, b.endDate AS endDate FROM Booking b " +
+           "WHERE b.property.id = :propertyId AND (b.status IS NULL OR b.status <> 'cancelled') " +
+           "AND b.endDate >= :from AND b.startDate <= :to ORDER BY b.startDate")
+    List<BookingDateRange> findActiveDateRanges(
+            @Param("propertyId") Long propertyId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+    
+    /**
+     * Checks whether an active (not cancelled) booking of a property occupies any date of a range.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the first date of the range
+     * @param endDate the last date of the range
+     * @param excludedBookingId the ID of a booking to ignore, or null
+     * @return true if an active booking occupies a date of the range
+     */
+    @Query("SELECT COUNT(b) > 0 FROM Booking b " +
+           "WHERE b.property.id = :propertyId AND (b.status IS NULL OR b.status <> 'cancelled') " +
+           "AND b.startDate <= :endDate AND b.endDate >= :startDate " +
+           "AND (:excludedBookingId IS NULL OR b.id <> :excludedBookingId)")
+    boolean existsActiveBookingBetween(
+            @Param("propertyId") Long propertyId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("excludedBookingId") Long excludedBookingId);
+    
+    /**
+     * Finds the ID of the property a booking is for.
+     *
+     * @param bookingId the ID of the booking
+     * @return the property ID, or empty if the booking does not exist
+     */
+    @Query("SELECT b.property.id FROM Booking b WHERE b.id = :bookingId")
+    Optional<Long> findPropertyIdById(@Param("bookingId") Long bookingId);
+    
+    /**
+     * Streams the exported columns of every booking, in ID order.
+     * <p>
+     * Rows are read through a forward-only cursor and are not attached to the
+     * persistence context. The stream must be consumed and closed within a transaction.
+     * </p>
+     *
+     * @return the booking rows
+     */
+    @Query("SELECT new com.vacationstay.repository.BookingExportRow(b.id, b.property.id, b.user.id, " +
+           "b.startDate, b.endDate, b.totalPrice, b.status, b.createdAt, b.updatedAt) FROM Booking b ORDER BY b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PropertyRepository.EXPORT_FETCH_SIZE))
+    Stream<BookingExportRow> streamExportRows();
+}
@@ -0,0 +1,107 @@
+package com.vacationstay.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the exported columns of a property.
+ * <p>
+ * Amenities and images are the stored JSON arrays, unparsed.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyExportRow {
+
+    /**
+     * The ID of the property.
+     */
+    private final Long id;
+
+    /**
+     * The title of the property.
+     */
+    private final String title;
+
+    /**
+     * The description of the property.
+     */
+    private final String description;
+
+    /**
+     * The location of the property.
+     */
+    private final String location;
+
+    /**
+     * The latitude, or null if not geocoded.
+     */
+    private final Double latitude;
+
+    /**
+     * The longitude, or null if not geocoded.
+     */
+    private final Double longitude;
+
+    /**
+     * The nightly price.
+     */
+    private final BigDecimal price;
+
+    /**
+     * The number of bedrooms.
+     */
+    private final Integer bedrooms;
+
+    /**
+     * The number of bathrooms.
+     */
+    private final Integer bathrooms;
+
+    /**
+     * The maximum number of guests.
+     */
+    private final Integer maxGuests;
+
+    /**
+     * The amenities as a JSON array.
+     */
+    private final String amenities;
+
+    /**
+     * The image URLs as a JSON array.
+     */
+    private final String images;
+
+    /**
+     * The ID of the owner.
+     */
+    private final String ownerId;
+
+    /**
+     * The average rating.
+     */
+    private final Double averageRating;
+
+    /**
+     * The number of reviews.
+     */
+    private final Integer ratingCount;
+
+    /**
+     * When the property was created.
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * When the property was last updated.
+     */
+    private final LocalDateTime updatedAt;
+}
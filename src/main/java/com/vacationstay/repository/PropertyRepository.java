@@ -1,13 +1,23 @@
 package com.vacationstay.repository;
 
 import com.vacationstay.model.Property;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Property entities.
@@ -22,6 +32,11 @@ import java.util.List;
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
 
+    /**
+     * Number of rows fetched per round trip when streaming exports.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
     /**
      * Finds properties by location (case-insensitive partial match).
      *
@@ -100,4 +115,150 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
      * @return a list of properties owned by the specified user
      */
     List<Property> findByOwnerId(String ownerId);
-}
\ No newline at end of file
+
+    /**
+     * Finds a batch of properties with IDs greater than the given ID, in ID order.
+     * <p>
+     * Used to walk the whole catalog in fixed-size batches without offset paging.
+     * </p>
+     *
+     * @param id only properties with an ID greater than this are returned
+     * @param pageable the batch size
+     * @return the next batch of properties ordered by ID
+     */
+    List<Property> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Scrolls through all properties in the given order using keyset pagination.
+     * <p>
+     * The sort must end with a unique attribute (the ID) so that each window continues
+     * strictly after the last row of the previous one, using an index range scan instead
+     * of skipping over an offset.
+     * </p>
+     *
+     * @param position the position to continue after
+     * @param sort the sort order, ending with the ID
+     * @param limit the maximum number of properties per window
+     * @return the next window of properties
+     */
+    Window<Property> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Applies a delta to the denormalized rating aggregates of a property.
+     * <p>
+     * The update is a single atomic statement, so concurrent review writes never lose
+     * increments. The average is assigned first because some databases (MySQL) evaluate
+     * assignments left to right using already-updated values; placed first, it reads the
+     * pre-update count and sum on every database.
+     * </p>
+     *
+     * @param propertyId the ID of the property
+     * @param countDelta the change in the number of reviews
+     * @param sumDelta the change in the sum of ratings
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Property p SET " +
+           "p.averageRating = CASE WHEN p.ratingCount + :countDelta > 0 " +
+           "THEN (p.ratingSum + :sumDelta) * 1.0 / (p.ratingCount + :countDelta) ELSE 0.0 END, " +
+           "p.ratingCount = p.ratingCount + :countDelta, " +
+           "p.ratingSum = p.ratingSum + :sumDelta " +
+           "WHERE p.id = :propertyId")
+    int applyRatingDelta(
+            @Param("propertyId") Long propertyId,
+            @Param("countDelta") int countDelta,
+            @Param("sumDelta") long sumDelta);
+
+    /**
+     * Finds properties whose stored rating aggregates differ from their reviews.
+     * <p>
+     * Results are ordered by ID so callers can walk the catalog in batches by passing
+     * the last ID seen as {@code afterId}.
+     * </p>
+     *
+     * @param afterId only properties with an ID greater than this are considered
+     * @param pageable the batch size
+     * @return the drifted aggregates, ordered by property ID
+     */
+    @Query("SELECT p.id AS propertyId, p.ratingCount AS storedCount, p.ratingSum AS storedSum, " +
+           "COUNT(r.id) AS actualCount, COALESCE(SUM(r.rating), 0) AS actualSum " +
+           "FROM Property p LEFT JOIN p.reviews r WHERE p.id > :afterId " +
+           "GROUP BY p.id, p.ratingCount, p.ratingSum " +
+           "HAVING COUNT(r.id) <> p.ratingCount OR COALESCE(SUM(r.rating), 0) <> p.ratingSum " +
+           "ORDER BY p.id")
+    List<RatingAggregate> findDriftedRatingAggregates(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Overwrites the rating aggregates of a property, but only if they still hold the
+     * expected values.
+     * <p>
+     * The compare-and-set guard keeps the reconciliation job from clobbering an
+     * increment applied by a review written after the drift was detected.
+     * </p>
+     *
+     * @param propertyId the ID of the property
+     * @param expectedCount the review count the repair was computed against
+     * @param expectedSum the rating sum the repair was computed against
+     * @param count the correct review count
+     * @param sum the correct rating sum
+     * @param average the correct average rating
+     * @return the number of rows updated (0 if the aggregates changed concurrently)
+     */
+    @Modifying
+    @Query("UPDATE Property p SET p.ratingCount = :count, p.ratingSum = :sum, p.averageRating = :average " +
+           "WHERE p.id = :propertyId AND p.ratingCount = :expectedCount AND p.ratingSum = :expectedSum")
+    int repairRatingAggregate(
+            @Param("propertyId") Long propertyId,
+            @Param("expectedCount") Integer expectedCount,
+            @Param("expectedSum") Long expectedSum,
+            @Param("count") Integer count,
+            @Param("sum") Long sum,
+            @Param("average") Double average);
+
+    /**
+     * Reads the stored average rating of a property.
+     *
+     * @param propertyId the ID of the property
+     * @return the average rating, or null if the property does not exist
+     */
+    @Query("SELECT p.averageRating FROM Property p WHERE p.id = :propertyId")
+    Double findAverageRatingById(@Param("propertyId") Long propertyId);
+
+    /**
+     * Finds the IDs of the best rated properties.
+     * <p>
+     * Ordered by average rating, then review count, then newest ID, so the query is
+     * answered from the start of the (average_rating, id) index.
+     * </p>
+     *
+     * @param pageable the number of IDs to return
+     * @return the property IDs, best rated first
+     */
+    @Query("SELECT p.id FROM Property p ORDER BY p.averageRating DESC, p.ratingCount DESC, p.id DESC")
+    List<Long> findTopRatedIds(Pageable pageable);
+
+    /**
+     * Finds the IDs of the most recently listed properties.
+     *
+     * @param pageable the number of IDs to return
+     * @return the property IDs, newest first
+     */
+    @Query("SELECT p.id FROM Property p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findMostRecentIds(Pageable pageable);
+
+    /**
+     * Streams the exported columns of every property, in ID order.
+     * <p>
+     * Rows are read through a forward-only cursor, fetched {@value #EXPORT_FETCH_SIZE} at
+     * a time, and are not attached to the persistence context. The stream must be
+     * consumed and closed within a transaction.
+     * </p>
+     *
+     * @return the property rows
+     */
+    @Query("SELECT new com.vacationstay.repository.PropertyExportRow(p.id, p.title, p.description, p.location, " +
+           "p.latitude, p.longitude, p.price, p.bedrooms, p.bathrooms, p.maxGuests, p.amenities, p.images, p.ownerId, " +
+           "p.averageRating, p.ratingCount, p.createdAt, p.updatedAt) FROM Property p ORDER BY p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    Stream<PropertyExportRow> streamExportRows();
+}
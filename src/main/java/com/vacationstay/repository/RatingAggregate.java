@@ -0,0 +1,37 @@
+package com.vacationstay.repository;
+
+/**
+ * Projection comparing the stored rating aggregates of a property with the values
+ * computed from its reviews.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface RatingAggregate {
+
+    /**
+     * @return the ID of the property
+     */
+    Long getPropertyId();
+
+    /**
+     * @return the review count currently stored on the property
+     */
+    Integer getStoredCount();
+
+    /**
+     * @return the rating sum currently stored on the property
+     */
+    Long getStoredSum();
+
+    /**
+     * @return the review count computed from the reviews table
+     */
+    Long getActualCount();
+
+    /**
+     * @return the rating sum computed from the reviews table
+     */
+    Long getActualSum();
+}
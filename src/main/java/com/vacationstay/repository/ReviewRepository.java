@@ -1,12 +1,14 @@
 package com.vacationstay.repository;
 
 import com.vacationstay.model.Review;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Review entities.
@@ -22,19 +24,40 @@ import java.util.List;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     /**
-     * Finds all reviews for a specific property.
+     * Finds a review by its ID, fetching the reviewer in the same query.
+     *
+     * @param id the ID of the review
+     * @return the review, if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Review> findById(Long id);
+
+    /**
+     * Finds all reviews, fetching the reviewers in the same query.
+     *
+     * @return a list of all reviews
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Review> findAll();
+
+    /**
+     * Finds all reviews for a specific property, fetching the reviewers in the same query.
      *
      * @param propertyId the ID of the property
      * @return a list of reviews for the specified property
      */
+    @EntityGraph(attributePaths = "user")
     List<Review> findByPropertyId(Long propertyId);
     
     /**
-     * Finds all reviews written by a specific user.
+     * Finds all reviews written by a specific user, fetching the user in the same query.
      *
      * @param userId the ID of the user
      * @return a list of reviews written by the specified user
      */
+    @EntityGraph(attributePaths = "user")
     List<Review> findByUserId(Long userId);
     
     /**
@@ -0,0 +1,48 @@
+package com.vacationstay.repository;
+
+import com.vacationstay.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for RevokedToken entities.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Finds the revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the revoked tokens still within their lifetime
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Finds tokens revoked after the given time, typically by another instance.
+     *
+     * @param revokedAt only tokens revoked after this time are returned
+     * @return the recently revoked tokens
+     */
+    List<RevokedToken> findByRevokedAtAfter(Instant revokedAt);
+
+    /**
+     * Deletes the records of tokens that have expired.
+     *
+     * @param now the current time
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
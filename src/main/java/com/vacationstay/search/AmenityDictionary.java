@@ -0,0 +1,228 @@
+package com.vacationstay.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vacationstay.dto.PropertySearchCriteria;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Dictionary of amenity names with one bitmap of index slots per amenity.
+ * <p>
+ * Amenity names are matched case-insensitively and interned into small integer IDs in
+ * order of first appearance. The amenities of a slot are kept as a bitmask of their IDs,
+ * and the slots offering an amenity as a {@link BitSet}, so an "all of" filter is the
+ * intersection and an "any of" filter the union of a few bitmaps. Slots are allocated
+ * densely by the search index, which keeps the bitmaps compact without a run-length
+ * encoding.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class AmenityDictionary {
+
+    private static final ObjectReader STRING_LIST_READER =
+            new ObjectMapper().readerFor(new TypeReference<List<String>>() {});
+    private static final long[] NO_AMENITIES = new long[0];
+
+    private final Map<String, Integer> amenityIds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<BitSet> postings = new ArrayList<>();
+
+    AmenityDictionary() {
+    }
+
+    /**
+     * Normalizes an amenity name for matching.
+     *
+     * @param amenity the amenity name
+     * @return the trimmed, lowercase name
+     */
+    public static String normalize(String amenity) {
+        return amenity.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks the amenities of a property against the amenity filters of a search.
+     *
+     * @param criteria the search criteria
+     * @param amenities the amenities of the property, or null
+     * @return true if the property has every required amenity and, when alternatives are
+     *         given, at least one of them
+     */
+    public static boolean matches(PropertySearchCriteria criteria, Collection<String> amenities) {
+        if (!criteria.hasAmenities()) {
+            return true;
+        }
+        Set<String> offered = amenities == null ? Set.of() : amenities.stream()
+                .filter(Objects::nonNull)
+                .map(AmenityDictionary::normalize)
+                .collect(Collectors.toSet());
+        List<String> all = normalized(criteria.getAmenities());
+        List<String> any = normalized(criteria.getAnyAmenities());
+        return offered.containsAll(all) && (any.isEmpty() || any.stream().anyMatch(offered::contains));
+    }
+
+    /**
+     * Parses the JSON array of amenities stored with a property.
+     *
+     * @param json the JSON array, or null
+     * @return the amenity names; empty if the JSON is missing or malformed
+     */
+    static List<String> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            List<String> amenities = STRING_LIST_READER.readValue(json);
+            return amenities != null ? amenities : List.of();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Adds a slot to the bitmaps of its amenities, interning names not seen before.
+     *
+     * @param slot the slot
+     * @param amenities the amenity names
+     * @return the bitmask of the amenity IDs of the slot
+     */
+    long[] add(int slot, Collection<String> amenities) {
+        BitSet mask = new BitSet();
+        for (String amenity : amenities) {
+            if (amenity == null || amenity.isBlank()) {
+                continue;
+            }
+            int amenityId = amenityIds.computeIfAbsent(normalize(amenity), key -> {
+                names.add(amenity.trim());
+                postings.add(new BitSet());
+                return postings.size() - 1;
+            });
+            postings.get(amenityId).set(slot);
+            mask.set(amenityId);
+        }
+        return mask.isEmpty() ? NO_AMENITIES : mask.toLongArray();
+    }
+
+    /**
+     * Removes a slot from the bitmaps of its amenities.
+     *
+     * @param slot the slot
+     * @param mask the bitmask returned when the slot was added
+     */
+    void remove(int slot, long[] mask) {
+        BitSet amenities = BitSet.valueOf(mask);
+        for (int amenityId = amenities.nextSetBit(0); amenityId >= 0; amenityId = amenities.nextSetBit(amenityId + 1)) {
+            postings.get(amenityId).clear(slot);
+        }
+    }
+
+    /**
+     * Resolves the slots satisfying the amenity filters of a search.
+     *
+     * @param criteria the search criteria
+     * @return the matching slots, or null if the search has no amenity filter
+     */
+    BitSet match(PropertySearchCriteria criteria) {
+        if (!criteria.hasAmenities()) {
+            return null;
+        }
+        BitSet result = null;
+        for (String amenity : normalized(criteria.getAmenities())) {
+            Integer amenityId = amenityIds.get(amenity);
+            if (amenityId == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) postings.get(amenityId).clone();
+            } else {
+                result.and(postings.get(amenityId));
+            }
+        }
+        List<String> any = normalized(criteria.getAnyAmenities());
+        if (!any.isEmpty()) {
+            BitSet union = new BitSet();
+            for (String amenity : any) {
+                Integer amenityId = amenityIds.get(amenity);
+                if (amenityId != null) {
+                    union.or(postings.get(amenityId));
+                }
+            }
+            if (result == null) {
+                result = union;
+            } else {
+                result.and(union);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of interned amenities.
+     *
+     * @return one more than the highest amenity ID
+     */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the name of an amenity as first seen.
+     *
+     * @param amenityId the amenity ID
+     * @return the amenity name
+     */
+    String name(int amenityId) {
+        return names.get(amenityId);
+    }
+
+    /**
+     * Lists the amenities offered by at least one slot.
+     *
+     * @return the amenity names as first seen, sorted case-insensitively
+     */
+    List<String> names() {
+        List<String> offered = new ArrayList<>();
+        for (int amenityId = 0; amenityId < names.size(); amenityId++) {
+            if (!postings.get(amenityId).isEmpty()) {
+                offered.add(names.get(amenityId));
+            }
+        }
+        offered.sort(String.CASE_INSENSITIVE_ORDER);
+        return offered;
+    }
+
+    /**
+     * Removes every amenity and slot.
+     */
+    void clear() {
+        amenityIds.clear();
+        names.clear();
+        postings.clear();
+    }
+
+    private static List<String> normalized(Collection<String> amenities) {
+        if (amenities == null) {
+            return List.of();
+        }
+        return amenities.stream()
+                .filter(amenity -> amenity != null && !amenity.isBlank())
+                .map(AmenityDictionary::normalize)
+                .distinct()
+                .toList();
+    }
+}
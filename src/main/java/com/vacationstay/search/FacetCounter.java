@@ -0,0 +1,164 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyFacets;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Single-pass counter of the facets of a property search.
+ * <p>
+ * Every facet is a fixed array of primitive counters: price bands of
+ * {@value #PRICE_BAND_CENTS} cents, exact bedroom, bathroom and guest values (the
+ * highest one counting everything above it), and amenity IDs. Counting a property
+ * increments one counter per facet and one per amenity bit of its bitmask, so it
+ * allocates nothing; the cumulative "at least" counts and names are only derived once
+ * the pass is over.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class FacetCounter {
+
+    private static final long PRICE_BAND_CENTS = 10_000;
+    private static final int PRICE_BANDS = 10;
+    private static final int MAX_COUNTED_ROOMS = 10;
+    private static final int MAX_COUNTED_GUESTS = 16;
+
+    private final int[] priceBands = new int[PRICE_BANDS + 1];
+    private final int[] bedrooms = new int[MAX_COUNTED_ROOMS + 1];
+    private final int[] bathrooms = new int[MAX_COUNTED_ROOMS + 1];
+    private final int[] guests = new int[MAX_COUNTED_GUESTS + 1];
+    private final int[] amenities;
+    private int total;
+
+    /**
+     * @param amenityCount the number of amenity IDs that may be counted
+     */
+    FacetCounter(int amenityCount) {
+        this.amenities = new int[amenityCount];
+    }
+
+    /**
+     * Counts the facets of properties that are not in the index.
+     *
+     * @param properties the matching properties
+     * @return the facet counts
+     */
+    public static PropertyFacets count(Collection<PropertyDTO> properties) {
+        AmenityDictionary dictionary = new AmenityDictionary();
+        long[][] masks = new long[properties.size()][];
+        int slot = 0;
+        for (PropertyDTO property : properties) {
+            masks[slot] = dictionary.add(slot, property.getAmenities() != null ? property.getAmenities() : List.of());
+            slot++;
+        }
+        FacetCounter counter = new FacetCounter(dictionary.size());
+        slot = 0;
+        for (PropertyDTO property : properties) {
+            counter.add(property.getPrice() != null
+                            ? PropertySearchIndex.toCents(property.getPrice(), RoundingMode.HALF_UP) : 0L,
+                    valueOf(property.getBedrooms()), valueOf(property.getBathrooms()), valueOf(property.getMaxGuests()),
+                    masks[slot++]);
+        }
+        return counter.toFacets(dictionary::name);
+    }
+
+    /**
+     * Counts one matching property.
+     *
+     * @param priceCents the nightly price in cents
+     * @param bedroomCount the number of bedrooms
+     * @param bathroomCount the number of bathrooms
+     * @param guestCount the maximum number of guests
+     * @param amenityMask the bitmask of amenity IDs, or null
+     */
+    void add(long priceCents, int bedroomCount, int bathroomCount, int guestCount, long[] amenityMask) {
+        total++;
+        priceBands[(int) Math.min(PRICE_BANDS, Math.max(0, priceCents / PRICE_BAND_CENTS))]++;
+        bedrooms[clamp(bedroomCount, MAX_COUNTED_ROOMS)]++;
+        bathrooms[clamp(bathroomCount, MAX_COUNTED_ROOMS)]++;
+        guests[clamp(guestCount, MAX_COUNTED_GUESTS)]++;
+        if (amenityMask != null) {
+            for (int word = 0; word < amenityMask.length; word++) {
+                for (long bits = amenityMask[word]; bits != 0; bits &= bits - 1) {
+                    amenities[word * Long.SIZE + Long.numberOfTrailingZeros(bits)]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the facet counts from the counters.
+     *
+     * @param amenityNames the name of each amenity ID
+     * @return the facet counts
+     */
+    PropertyFacets toFacets(IntFunction<String> amenityNames) {
+        List<PropertyFacets.PriceBand> bands = new ArrayList<>();
+        int lastBand = lastNonZero(priceBands);
+        for (int band = 0; band <= lastBand; band++) {
+            bands.add(new PropertyFacets.PriceBand(BigDecimal.valueOf(band * PRICE_BAND_CENTS, 2),
+                    band < PRICE_BANDS ? BigDecimal.valueOf((band + 1) * PRICE_BAND_CENTS, 2) : null,
+                    priceBands[band]));
+        }
+
+        List<Integer> amenityIds = new ArrayList<>();
+        for (int amenityId = 0; amenityId < amenities.length; amenityId++) {
+            if (amenities[amenityId] > 0) {
+                amenityIds.add(amenityId);
+            }
+        }
+        amenityIds.sort(Comparator.<Integer>comparingInt(amenityId -> -amenities[amenityId])
+                .thenComparing(amenityNames::apply, String.CASE_INSENSITIVE_ORDER));
+        Map<String, Integer> amenityCounts = new LinkedHashMap<>();
+        for (int amenityId : amenityIds) {
+            amenityCounts.put(amenityNames.apply(amenityId), amenities[amenityId]);
+        }
+
+        return new PropertyFacets(total, bands, atLeast(bedrooms), atLeast(bathrooms), atLeast(guests), amenityCounts);
+    }
+
+    /**
+     * Turns exact value counts into counts of values at least each key, from 1 up to the
+     * highest value seen.
+     */
+    private static Map<Integer, Integer> atLeast(int[] exact) {
+        int last = lastNonZero(exact);
+        int[] cumulative = new int[exact.length + 1];
+        for (int value = exact.length - 1; value >= 0; value--) {
+            cumulative[value] = cumulative[value + 1] + exact[value];
+        }
+        Map<Integer, Integer> counts = new LinkedHashMap<>();
+        for (int value = 1; value <= last; value++) {
+            counts.put(value, cumulative[value]);
+        }
+        return counts;
+    }
+
+    private static int lastNonZero(int[] counts) {
+        int last = counts.length - 1;
+        while (last >= 0 && counts[last] == 0) {
+            last--;
+        }
+        return last;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.min(max, Math.max(0, value));
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
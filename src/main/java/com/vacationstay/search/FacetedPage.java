@@ -0,0 +1,16 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyFacets;
+
+/**
+ * One page of property IDs together with the facet counts of all matches.
+ *
+ * @param ids the property IDs of the page, in sort order
+ * @param facets the facet counts of every match of the search
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record FacetedPage(long[] ids, PropertyFacets facets) {
+}
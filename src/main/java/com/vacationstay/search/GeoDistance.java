@@ -0,0 +1,99 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertySearchCriteria;
+
+/**
+ * Great-circle distances and the geographic filters of property searches.
+ * <p>
+ * The index and the database fallback both use these methods, so a property matches
+ * the same filters and gets the same distance key whichever path answers a search.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GeoDistance {
+
+    /**
+     * Mean radius of the Earth in kilometers.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Computes the haversine distance between two points.
+     *
+     * @param latitude1 the latitude of the first point in degrees
+     * @param longitude1 the longitude of the first point in degrees
+     * @param latitude2 the latitude of the second point in degrees
+     * @param longitude2 the longitude of the second point in degrees
+     * @return the distance in kilometers
+     */
+    public static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double phi1 = Math.toRadians(latitude1);
+        double phi2 = Math.toRadians(latitude2);
+        double sinHalfDeltaPhi = Math.sin((phi2 - phi1) / 2);
+        double sinHalfDeltaLambda = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = sinHalfDeltaPhi * sinHalfDeltaPhi
+                + Math.cos(phi1) * Math.cos(phi2) * sinHalfDeltaLambda * sinHalfDeltaLambda;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Computes the distance of a property from the center point of a search.
+     *
+     * @param criteria the search criteria, with a center point
+     * @param latitude the latitude of the property, or null
+     * @param longitude the longitude of the property, or null
+     * @return the distance in kilometers, or positive infinity if the property has no coordinates
+     */
+    public static double distanceKm(PropertySearchCriteria criteria, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return haversineKm(criteria.getLatitude(), criteria.getLongitude(), latitude, longitude);
+    }
+
+    /**
+     * Checks a property against the bounding box and radius filters of a search.
+     *
+     * @param criteria the search criteria
+     * @param latitude the latitude of the property, or null
+     * @param longitude the longitude of the property, or null
+     * @return true if the search has no geographic filter or the property passes it
+     */
+    public static boolean matches(PropertySearchCriteria criteria, Double latitude, Double longitude) {
+        if (!criteria.hasBoundingBox() && !criteria.hasRadius()) {
+            return true;
+        }
+        return latitude != null && longitude != null && matches(criteria, latitude.doubleValue(), longitude.doubleValue());
+    }
+
+    /**
+     * Checks coordinates against the bounding box and radius filters of a search.
+     * A bounding box whose minimum longitude exceeds its maximum crosses the antimeridian.
+     *
+     * @param criteria the search criteria
+     * @param latitude the latitude, or NaN if unknown
+     * @param longitude the longitude, or NaN if unknown
+     * @return true if the search has no geographic filter or the coordinates pass it
+     */
+    static boolean matches(PropertySearchCriteria criteria, double latitude, double longitude) {
+        if (criteria.hasBoundingBox()) {
+            if (!(latitude >= criteria.getMinLatitude() && latitude <= criteria.getMaxLatitude())) {
+                return false;
+            }
+            boolean inLongitude = criteria.getMinLongitude() <= criteria.getMaxLongitude()
+                    ? longitude >= criteria.getMinLongitude() && longitude <= criteria.getMaxLongitude()
+                    : longitude >= criteria.getMinLongitude() || longitude <= criteria.getMaxLongitude();
+            if (!inLongitude) {
+                return false;
+            }
+        }
+        return !criteria.hasRadius() || haversineKm(criteria.getLatitude(), criteria.getLongitude(),
+                latitude, longitude) <= criteria.getRadiusKm();
+    }
+}
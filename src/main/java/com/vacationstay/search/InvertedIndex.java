@@ -0,0 +1,194 @@
+package com.vacationstay.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index of the documents analyzed with one {@link TextAnalyzer}.
+ * <p>
+ * Each term maps to a {@link PostingList} of the documents containing it. Documents are
+ * identified by dense numbers assigned in ascending order by the owner of the index,
+ * which also tracks which numbers are still live; removing a document only discounts
+ * its length, and its postings are dropped at the next {@link #renumber(int[], int)}.
+ * </p>
+ * <p>
+ * Queries match the documents containing every query term and rank them with Okapi
+ * BM25. Like most search engines, document frequencies include removed documents until
+ * the index is renumbered, which slightly skews scores right after many deletions.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class InvertedIndex {
+
+    /**
+     * BM25 term frequency saturation.
+     */
+    static final double K1 = 1.2;
+
+    /**
+     * BM25 document length normalization.
+     */
+    static final double B = 0.75;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TextAnalyzer analyzer;
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private long liveLength;
+    private int liveCount;
+
+    InvertedIndex(TextAnalyzer analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    /**
+     * @return the analyzer of indexed documents and queries
+     */
+    TextAnalyzer analyzer() {
+        return analyzer;
+    }
+
+    /**
+     * @return the number of distinct terms
+     */
+    int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Adds a document.
+     *
+     * @param document the document number, greater than every number already added
+     * @param termFrequencies the weighted number of occurrences of each term
+     */
+    void add(int document, Map<String, Integer> termFrequencies) {
+        if (document >= lengths.length) {
+            lengths = Arrays.copyOf(lengths, Math.max(lengths.length * 2, document + 1));
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(document, entry.getValue());
+            length += entry.getValue();
+        }
+        lengths[document] = length;
+        liveLength += length;
+        liveCount++;
+    }
+
+    /**
+     * Discounts a removed document from the collection statistics.
+     *
+     * @param document the document number
+     */
+    void remove(int document) {
+        liveLength -= lengths[document];
+        liveCount--;
+    }
+
+    /**
+     * Renumbers the documents, dropping the postings of removed documents.
+     *
+     * @param newNumbers the new number of each document, or -1 for removed documents
+     * @param documentCount the number of documents kept
+     */
+    void renumber(int[] newNumbers, int documentCount) {
+        Iterator<Map.Entry<String, PostingList>> entries = postings.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, PostingList> entry = entries.next();
+            PostingList renumbered = entry.getValue().renumber(newNumbers);
+            if (renumbered.documentCount() == 0) {
+                entries.remove();
+            } else {
+                entry.setValue(renumbered);
+            }
+        }
+        int[] newLengths = new int[Math.max(INITIAL_CAPACITY, documentCount)];
+        for (int document = 0; document < newNumbers.length; document++) {
+            if (newNumbers[document] >= 0) {
+                newLengths[newNumbers[document]] = lengths[document];
+            }
+        }
+        lengths = newLengths;
+    }
+
+    /**
+     * Finds and scores the live documents containing every term of a query.
+     * <p>
+     * Postings are intersected by walking the rarest term's list and advancing the
+     * others to each of its documents.
+     * </p>
+     *
+     * @param query the query text
+     * @param live the live document numbers
+     * @param ids the property ID of each document number
+     * @return the matching properties and their BM25 scores
+     */
+    TextSearchResult search(String query, BitSet live, long[] ids) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(analyzer.analyze(query)));
+        if (terms.isEmpty() || liveCount == 0) {
+            return TextSearchResult.empty();
+        }
+        PostingList[] lists = new PostingList[terms.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(terms.get(i));
+            if (lists[i] == null) {
+                return TextSearchResult.empty();
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::documentCount));
+
+        double averageLength = Math.max(1.0, (double) liveLength / liveCount);
+        double[] idf = new double[lists.length];
+        PostingList.Reader[] readers = new PostingList.Reader[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            int documentFrequency = lists[i].documentCount();
+            idf[i] = Math.log(1.0 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            readers[i] = lists[i].reader();
+        }
+
+        int capacity = Math.min(lists[0].documentCount(), liveCount);
+        long[] matchIds = new long[capacity];
+        double[] matchScores = new double[capacity];
+        int count = 0;
+        PostingList.Reader lead = readers[0];
+        candidates:
+        while (lead.next()) {
+            int document = lead.document();
+            for (int i = 1; i < readers.length; i++) {
+                if (!readers[i].advance(document)) {
+                    break candidates;
+                }
+                if (readers[i].document() != document) {
+                    continue candidates;
+                }
+            }
+            if (!live.get(document)) {
+                continue;
+            }
+            double norm = K1 * (1.0 - B + B * lengths[document] / averageLength);
+            double score = 0.0;
+            for (int i = 0; i < readers.length; i++) {
+                int frequency = readers[i].frequency();
+                score += idf[i] * frequency * (K1 + 1.0) / (frequency + norm);
+            }
+            if (count == matchIds.length) {
+                matchIds = Arrays.copyOf(matchIds, Math.max(8, count * 2));
+                matchScores = Arrays.copyOf(matchScores, matchIds.length);
+            }
+            matchIds[count] = ids[document];
+            matchScores[count] = score;
+            count++;
+        }
+        return TextSearchResult.of(matchIds, matchScores, count);
+    }
+}
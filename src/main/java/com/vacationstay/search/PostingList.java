@@ -0,0 +1,163 @@
+package com.vacationstay.search;
+
+import java.util.Arrays;
+
+/**
+ * Compressed list of the documents containing a term.
+ * <p>
+ * Postings are stored in ascending document order as pairs of variable-length integers:
+ * the gap to the previous document number, then the term frequency. Gaps are small for
+ * common terms and frequencies are usually 1, so most postings take two bytes. Documents
+ * can only be appended in ascending order, which the index guarantees by never reusing
+ * a document number.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int documentCount;
+    private int lastDocument;
+
+    /**
+     * @return the number of documents in the list, including deleted ones
+     */
+    int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * @return the number of bytes used by the encoded postings
+     */
+    int sizeInBytes() {
+        return length;
+    }
+
+    /**
+     * Appends a posting.
+     *
+     * @param document the document number, greater than every number already in the list
+     * @param frequency the number of occurrences of the term in the document
+     */
+    void add(int document, int frequency) {
+        if (documentCount > 0 && document <= lastDocument) {
+            throw new IllegalArgumentException("Document " + document + " is not after " + lastDocument);
+        }
+        writeVarInt(documentCount > 0 ? document - lastDocument : document);
+        writeVarInt(frequency);
+        lastDocument = document;
+        documentCount++;
+    }
+
+    /**
+     * Rewrites the list with renumbered documents, dropping deleted ones.
+     *
+     * @param newNumbers the new number of each document, or -1 for deleted documents;
+     *                   must preserve the order of the remaining documents
+     * @return the rewritten list, possibly empty
+     */
+    PostingList renumber(int[] newNumbers) {
+        PostingList result = new PostingList();
+        Reader reader = reader();
+        while (reader.next()) {
+            int document = newNumbers[reader.document()];
+            if (document >= 0) {
+                result.add(document, reader.frequency());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a reader positioned before the first posting
+     */
+    Reader reader() {
+        return new Reader();
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Forward-only decoder over the postings of a list.
+     */
+    final class Reader {
+
+        private int position;
+        private int remaining = documentCount;
+        private int document = -1;
+        private int frequency;
+
+        /**
+         * Moves to the next posting.
+         *
+         * @return false if the list is exhausted
+         */
+        boolean next() {
+            if (remaining == 0) {
+                document = Integer.MAX_VALUE;
+                return false;
+            }
+            int gap = readVarInt();
+            document = document < 0 ? gap : document + gap;
+            frequency = readVarInt();
+            remaining--;
+            return true;
+        }
+
+        /**
+         * Moves to the first posting whose document is at least the target.
+         *
+         * @param target the document number to advance to
+         * @return false if the list is exhausted
+         */
+        boolean advance(int target) {
+            while (document < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the current document number, or {@link Integer#MAX_VALUE} once exhausted
+         */
+        int document() {
+            return document;
+        }
+
+        /**
+         * @return the term frequency in the current document
+         */
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
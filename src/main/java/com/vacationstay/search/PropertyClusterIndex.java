@@ -0,0 +1,437 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyClusterDTO;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.model.Property;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory multi-resolution grid aggregating property positions into map clusters.
+ * <p>
+ * The map is projected with Web Mercator and split into {@code 2^level} by
+ * {@code 2^level} square cells at each level from 0 to {@value #LEAF_LEVEL}. Every
+ * non-empty cell keeps the count, the coordinate sums and the lowest price of the
+ * properties inside it, so a viewport is answered from the aggregates of the cells it
+ * overlaps and never touches individual properties. A map at zoom {@code z} shows
+ * {@code 2^z} tiles of 256 pixels across, and is clustered at level
+ * {@code z + }{@value #CELL_ZOOM_OFFSET}, that is with cells of 64 pixels. The finest
+ * level also lists its properties; zooms finer than it are clustered on the fly from the
+ * properties of the few finest cells in view.
+ * </p>
+ * <p>
+ * A viewport spanning more than {@value #MAX_CELLS} cells is clustered at the finest
+ * coarser level where it fits, so the size of a response is bounded by the number of
+ * cells on screen whatever the number of properties.
+ * </p>
+ * <p>
+ * Adding a property updates one cell per level. Removing one does the same, finest
+ * level first, and recomputes the lowest price of a cell from its four children only
+ * when the removed property held it. The index is loaded and kept up to date by the
+ * {@link PropertyIndexLoader}. Until the initial load completes, {@link #isReady()} returns {@code false} and callers should
+ * use {@link #cluster}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class PropertyClusterIndex implements PropertyIndex {
+
+    /**
+     * The highest map zoom level accepted.
+     */
+    public static final int MAX_ZOOM = 22;
+
+    /**
+     * The maximum number of grid cells a viewport is clustered into.
+     */
+    public static final int MAX_CELLS = 4096;
+
+    private static final int CELL_ZOOM_OFFSET = 2;
+    private static final int LEAF_LEVEL = 12;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Member> membersById = new HashMap<>();
+
+    // Non-empty cells by key, one map per level
+    private final List<Map<Long, Cell>> levels = newLevels();
+
+    private volatile boolean ready;
+
+    /**
+     * Returns whether the initial load has completed.
+     *
+     * @return true if the index can answer queries
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed properties.
+     *
+     * @return the number of properties with coordinates
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return membersById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Clusters the properties in the grid cells overlapping a bounding box.
+     *
+     * @param minLatitude the southern edge
+     * @param maxLatitude the northern edge
+     * @param minLongitude the western edge
+     * @param maxLongitude the eastern edge; less than the western edge if the box crosses
+     *                     the antimeridian
+     * @param zoom the map zoom level, from 0 to {@value #MAX_ZOOM}
+     * @return one cluster per non-empty cell
+     */
+    public List<PropertyClusterDTO> clusters(double minLatitude, double maxLatitude,
+                                             double minLongitude, double maxLongitude, int zoom) {
+        lock.readLock().lock();
+        try {
+            return clustersLocked(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Clusters properties without the index, the same way {@link #clusters} would if they
+     * were the only indexed properties.
+     *
+     * @param properties the properties to cluster; those without coordinates are ignored
+     * @param minLatitude the southern edge
+     * @param maxLatitude the northern edge
+     * @param minLongitude the western edge
+     * @param maxLongitude the eastern edge
+     * @param zoom the map zoom level, from 0 to {@value #MAX_ZOOM}
+     * @return one cluster per non-empty cell
+     */
+    public static List<PropertyClusterDTO> cluster(Collection<PropertyDTO> properties,
+                                                   double minLatitude, double maxLatitude,
+                                                   double minLongitude, double maxLongitude, int zoom) {
+        PropertyClusterIndex index = new PropertyClusterIndex();
+        for (PropertyDTO property : properties) {
+            if (property.getLatitude() != null && property.getLongitude() != null) {
+                index.addLocked(new Member(property.getId(), property.getLatitude(), property.getLongitude(),
+                        priceCents(property.getPrice())));
+            }
+        }
+        return index.clustersLocked(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+    }
+
+    /**
+     * Adds or moves a property in the grid, or drops it if it no longer has coordinates.
+     *
+     * @param property the property to index
+     */
+    @Override
+    public void upsert(Property property) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a property from the grid.
+     *
+     * @param propertyId the ID of the property to remove
+     */
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            Member member = membersById.get(propertyId);
+            if (member != null) {
+                removeLocked(member);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            membersById.clear();
+            levels.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(List<Property> properties) {
+        lock.writeLock().lock();
+        try {
+            properties.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    private void upsertLocked(Property property) {
+        Member previous = membersById.get(property.getId());
+        if (previous != null) {
+            removeLocked(previous);
+        }
+        if (property.getLatitude() != null && property.getLongitude() != null) {
+            addLocked(new Member(property.getId(), property.getLatitude(), property.getLongitude(),
+                    priceCents(property.getPrice())));
+        }
+    }
+
+    private void addLocked(Member member) {
+        membersById.put(member.id(), member);
+        for (int level = 0; level <= LEAF_LEVEL; level++) {
+            boolean leaf = level == LEAF_LEVEL;
+            levels.get(level).computeIfAbsent(member.cellKey(level), key -> new Cell(leaf)).add(member);
+        }
+    }
+
+    private void removeLocked(Member member) {
+        membersById.remove(member.id());
+        // Finest level first, so each parent can recompute its lowest price from its children
+        for (int level = LEAF_LEVEL; level >= 0; level--) {
+            Map<Long, Cell> cells = levels.get(level);
+            long key = member.cellKey(level);
+            Cell cell = cells.get(key);
+            cell.remove(member);
+            if (cell.count == 0) {
+                cells.remove(key);
+            } else if (member.priceCents() == cell.minPriceCents) {
+                cell.minPriceCents = cell.members != null
+                        ? cell.members.stream().mapToLong(Member::priceCents).min().orElse(Long.MAX_VALUE)
+                        : minChildPriceCents(level, key);
+            }
+        }
+    }
+
+    private long minChildPriceCents(int level, long key) {
+        Map<Long, Cell> children = levels.get(level + 1);
+        int x = (int) (key >>> 32);
+        int y = (int) key;
+        long min = Long.MAX_VALUE;
+        for (int dx = 0; dx < 2; dx++) {
+            for (int dy = 0; dy < 2; dy++) {
+                Cell child = children.get(cellKey(2 * x + dx, 2 * y + dy));
+                if (child != null) {
+                    min = Math.min(min, child.minPriceCents);
+                }
+            }
+        }
+        return min;
+    }
+
+    private List<PropertyClusterDTO> clustersLocked(double minLatitude, double maxLatitude,
+                                                    double minLongitude, double maxLongitude, int zoom) {
+        int level = Math.min(zoom + CELL_ZOOM_OFFSET, MAX_ZOOM + CELL_ZOOM_OFFSET);
+        CellRange range = CellRange.of(minLatitude, maxLatitude, minLongitude, maxLongitude, level);
+        while (range.size() > MAX_CELLS && level > 0) {
+            range = CellRange.of(minLatitude, maxLatitude, minLongitude, maxLongitude, --level);
+        }
+
+        List<PropertyClusterDTO> clusters = new ArrayList<>();
+        if (level <= LEAF_LEVEL) {
+            for (Cell cell : cellsIn(range)) {
+                clusters.add(cell.toDTO());
+            }
+            return clusters;
+        }
+
+        // Finer than the grid: regroup the properties of the finest cells in view
+        Map<Long, Cell> fineCells = new LinkedHashMap<>();
+        CellRange leafRange = CellRange.of(minLatitude, maxLatitude, minLongitude, maxLongitude, LEAF_LEVEL);
+        for (Cell leaf : cellsIn(leafRange)) {
+            for (Member member : leaf.members) {
+                long key = member.cellKey(level);
+                if (range.contains((int) (key >>> 32), (int) key)) {
+                    fineCells.computeIfAbsent(key, k -> new Cell(false)).add(member);
+                }
+            }
+        }
+        for (Cell cell : fineCells.values()) {
+            clusters.add(cell.toDTO());
+        }
+        return clusters;
+    }
+
+    /**
+     * Lists the non-empty cells of a range, visiting the range or the non-empty cells of
+     * its level, whichever is smaller.
+     */
+    private List<Cell> cellsIn(CellRange range) {
+        Map<Long, Cell> cells = levels.get(range.level());
+        List<Cell> found = new ArrayList<>();
+        if (range.size() > cells.size()) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long key = entry.getKey();
+                if (range.contains((int) (key >>> 32), (int) key)) {
+                    found.add(entry.getValue());
+                }
+            }
+            return found;
+        }
+        for (int y = range.fromY(); y <= range.toY(); y++) {
+            for (int x = range.fromX(), i = 0; i < range.width(); i++, x = (x + 1) % range.cellsPerSide()) {
+                Cell cell = cells.get(cellKey(x, y));
+                if (cell != null) {
+                    found.add(cell);
+                }
+            }
+        }
+        return found;
+    }
+
+    private static long priceCents(BigDecimal price) {
+        return price != null ? PropertySearchIndex.toCents(price, RoundingMode.HALF_UP) : Long.MAX_VALUE;
+    }
+
+    private static long cellKey(int x, int y) {
+        return (long) x << 32 | y;
+    }
+
+    /**
+     * Projects a longitude to a Web Mercator cell column.
+     */
+    private static int cellX(double longitude, int level) {
+        int cellsPerSide = 1 << level;
+        return Math.min(cellsPerSide - 1, Math.max(0, (int) Math.floor((longitude + 180) / 360 * cellsPerSide)));
+    }
+
+    /**
+     * Projects a latitude to a Web Mercator cell row, counted from the north.
+     */
+    private static int cellY(double latitude, int level) {
+        int cellsPerSide = 1 << level;
+        double phi = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        double y = (1 - Math.log(Math.tan(phi) + 1 / Math.cos(phi)) / Math.PI) / 2;
+        return Math.min(cellsPerSide - 1, Math.max(0, (int) Math.floor(y * cellsPerSide)));
+    }
+
+    private static List<Map<Long, Cell>> newLevels() {
+        List<Map<Long, Cell>> levels = new ArrayList<>(LEAF_LEVEL + 1);
+        for (int level = 0; level <= LEAF_LEVEL; level++) {
+            levels.add(new HashMap<>());
+        }
+        return levels;
+    }
+
+    /**
+     * An indexed property.
+     */
+    private record Member(long id, double latitude, double longitude, long priceCents) {
+
+        long cellKey(int level) {
+            return PropertyClusterIndex.cellKey(cellX(longitude, level), cellY(latitude, level));
+        }
+    }
+
+    /**
+     * The aggregates of the properties in one cell; finest-level cells also list them.
+     */
+    private static final class Cell {
+
+        private final List<Member> members;
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long minPriceCents = Long.MAX_VALUE;
+
+        Cell(boolean leaf) {
+            this.members = leaf ? new ArrayList<>() : null;
+        }
+
+        void add(Member member) {
+            count++;
+            latitudeSum += member.latitude();
+            longitudeSum += member.longitude();
+            minPriceCents = Math.min(minPriceCents, member.priceCents());
+            if (members != null) {
+                members.add(member);
+            }
+        }
+
+        void remove(Member member) {
+            count--;
+            latitudeSum -= member.latitude();
+            longitudeSum -= member.longitude();
+            if (members != null) {
+                members.remove(member);
+            }
+        }
+
+        PropertyClusterDTO toDTO() {
+            return new PropertyClusterDTO(latitudeSum / count, longitudeSum / count, count,
+                    minPriceCents != Long.MAX_VALUE ? BigDecimal.valueOf(minPriceCents, 2) : null);
+        }
+    }
+
+    /**
+     * The cells of one level overlapping a bounding box. Columns wrap around the
+     * antimeridian when the box crosses it.
+     */
+    private record CellRange(int level, int fromX, int width, int fromY, int toY) {
+
+        static CellRange of(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+                            int level) {
+            int fromX = cellX(minLongitude, level);
+            int toX = cellX(maxLongitude, level);
+            int width = minLongitude > maxLongitude ? (1 << level) - fromX + toX + 1 : toX - fromX + 1;
+            return new CellRange(level, fromX, Math.min(width, 1 << level),
+                    cellY(maxLatitude, level), cellY(minLatitude, level));
+        }
+
+        int cellsPerSide() {
+            return 1 << level;
+        }
+
+        long size() {
+            return (long) width * (toY - fromY + 1);
+        }
+
+        boolean contains(int x, int y) {
+            return y >= fromY && y <= toY && Math.floorMod(x - fromX, cellsPerSide()) < width;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.vacationstay.search;
+
+import com.vacationstay.model.Property;
+
+import java.util.List;
+
+/**
+ * An in-memory index of the property catalog, loaded and kept up to date by the
+ * {@link PropertyIndexLoader}.
+ * <p>
+ * The loader serializes every call, so an index only has to guard its own readers.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface PropertyIndex {
+
+    /**
+     * Indicates whether the initial load has completed.
+     *
+     * @return true if the index can answer queries
+     */
+    boolean isReady();
+
+    /**
+     * Removes every property and marks the index as not ready, ahead of a reload.
+     */
+    void clear();
+
+    /**
+     * Adds a batch of properties read from the database during a reload.
+     *
+     * @param properties the properties, none of which is currently indexed
+     */
+    void load(List<Property> properties);
+
+    /**
+     * Marks the reload as complete.
+     */
+    void markReady();
+
+    /**
+     * Adds or replaces a property.
+     *
+     * @param property the property to index
+     */
+    void upsert(Property property);
+
+    /**
+     * Removes a property.
+     *
+     * @param propertyId the ID of the property to remove
+     */
+    void remove(Long propertyId);
+}
@@ -0,0 +1,151 @@
+package com.vacationstay.search;
+
+import com.vacationstay.event.PropertyChangedEvent;
+import com.vacationstay.event.PropertyDeletedEvent;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads every {@link PropertyIndex} from the database and keeps them up to date.
+ * <p>
+ * The catalog is read once, in ID-ordered batches, and each batch is handed to all the
+ * indexes. Writes committed while the load is running are applied immediately, from
+ * the {@link PropertyChangedEvent} and {@link PropertyDeletedEvent} events, and take
+ * precedence over the rows being loaded: their IDs are skipped in later batches. A
+ * single lock orders batches and writes, so no index can apply a stale row after a
+ * newer write.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyIndexLoader {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final PropertyRepository propertyRepository;
+    private final List<PropertyIndex> indexes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // IDs written while a rebuild is loading, whose loaded rows must be ignored
+    private Set<Long> touchedDuringRebuild;
+
+    /**
+     * Rebuilds every index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.lock();
+        try {
+            indexes.forEach(PropertyIndex::clear);
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        int loaded = 0;
+        long afterId = 0L;
+        List<Property> batch;
+        try {
+            do {
+                batch = propertyRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                lock.lock();
+                try {
+                    List<Property> untouched = batch.stream()
+                            .filter(property -> !touchedDuringRebuild.contains(property.getId()))
+                            .toList();
+                    indexes.forEach(index -> index.load(untouched));
+                } finally {
+                    lock.unlock();
+                }
+                loaded += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+        } finally {
+            lock.lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        indexes.forEach(PropertyIndex::markReady);
+        log.info("{} property indexes built with {} properties in {} ms", indexes.size(), loaded,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Adds or replaces a property in every index.
+     *
+     * @param property the property to index
+     */
+    public void upsert(Property property) {
+        lock.lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(property.getId());
+            }
+            indexes.forEach(index -> index.upsert(property));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a property from every index.
+     *
+     * @param propertyId the ID of the property to remove
+     */
+    public void remove(Long propertyId) {
+        lock.lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(propertyId);
+            }
+            indexes.forEach(index -> index.remove(propertyId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indexes a property once its creation or update has been committed.
+     *
+     * @param event the property change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        upsert(event.getProperty());
+    }
+
+    /**
+     * Removes a property from the indexes once its deletion has been committed.
+     *
+     * @param event the property deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        remove(event.getPropertyId());
+    }
+}
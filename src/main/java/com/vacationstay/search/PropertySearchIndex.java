@@ -0,0 +1,732 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyCursor;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import com.vacationstay.event.PropertyRatingChangedEvent;
+import com.vacationstay.model.Property;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
+
+/**
+ * In-memory columnar index answering property filter searches.
+ * <p>
+ * Each indexed property occupies a slot. Numeric attributes are stored in primitive
+ * arrays indexed by slot (price in cents, bedrooms, bathrooms, max guests), and
+ * locations are split into tokens with one {@link BitSet} of slots per distinct token.
+ * Amenities are interned by an {@link AmenityDictionary} that keeps one bitmap of slots
+ * per amenity. A search intersects the live-slot set with the location postings and
+ * the amenity bitmaps and then drops the slots failing the numeric predicates in a
+ * single pass over the primitive columns, so no database access is needed to find
+ * matching property IDs. The same pass can feed a {@link FacetCounter}, so the facet
+ * counts of a search cost no extra scan.
+ * </p>
+ * <p>
+ * Sort keys (creation time in microseconds and average rating as order-preserving bits)
+ * are kept in primitive columns too, so a page of a sorted, filtered listing is selected
+ * with a bounded heap over the matching slots instead of sorting every match.
+ * </p>
+ * <p>
+ * Full-text queries are answered by {@link PropertyTextIndex}; its result can be passed
+ * in to restrict a search to the text matches and to order a page by relevance.
+ * </p>
+ * <p>
+ * Coordinates are kept in two more columns and bucketed in a {@link SpatialGrid} of
+ * {@value #GRID_CELL_DEGREES}-degree cells. Bounding box and radius searches start from
+ * the slots of the cells overlapping the query rectangle rather than from every live
+ * slot, so their cost depends on the density of the searched area, not on the size of
+ * the catalog. Distance sorting keeps the nearest matches in the same bounded heap as
+ * the other sort orders; without a radius, a nearest-first page searches circles of
+ * doubling radius until one holds a full page.
+ * </p>
+ * <p>
+ * The index is loaded and kept up to date by the {@link PropertyIndexLoader}; ratings
+ * are updated from the {@link PropertyRatingChangedEvent} events published after each
+ * committed review change. Until the initial load completes, {@link #isReady()} returns
+ * {@code false} and callers should query the database.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class PropertySearchIndex implements PropertyIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int[] NO_TOKENS = new int[0];
+    private static final double GRID_CELL_DEGREES = 0.1;
+    private static final double NEAREST_INITIAL_RADIUS_KM = 25.0;
+    private static final double NEAREST_FULL_SCAN_RADIUS_KM = Math.PI * GeoDistance.EARTH_RADIUS_KM;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, indexed by slot
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private int[] bedrooms = new int[INITIAL_CAPACITY];
+    private int[] bathrooms = new int[INITIAL_CAPACITY];
+    private int[] maxGuests = new int[INITIAL_CAPACITY];
+    private int[][] locationTokens = new int[INITIAL_CAPACITY][];
+    private long[] createdAtMicros = new long[INITIAL_CAPACITY];
+    private long[] ratingKeys = new long[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private long[][] amenityMasks = new long[INITIAL_CAPACITY][];
+
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    // Slots with coordinates, bucketed by position
+    private final SpatialGrid grid = new SpatialGrid(GRID_CELL_DEGREES);
+
+    // Location token dictionary and postings, indexed by token ID
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    private final List<BitSet> tokenPostings = new ArrayList<>();
+
+    // Amenity dictionary and bitmaps, indexed by amenity ID
+    private final AmenityDictionary amenityDictionary = new AmenityDictionary();
+
+    private volatile boolean ready;
+
+    /**
+     * Indicates whether the initial load has completed.
+     *
+     * @return true if searches can be answered from the index
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed properties.
+     *
+     * @return the number of indexed properties
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the IDs of all properties matching the given criteria.
+     *
+     * @param criteria the filter criteria
+     * @return the matching property IDs in ascending order
+     */
+    public long[] search(PropertySearchCriteria criteria) {
+        return search(criteria, null);
+    }
+
+    /**
+     * Finds the IDs of all properties matching the given criteria and text matches.
+     * The text query of the criteria is not evaluated here.
+     *
+     * @param criteria the filter criteria
+     * @param textMatches the matches of the text query, or null if there is none
+     * @return the matching property IDs in ascending order
+     */
+    public long[] search(PropertySearchCriteria criteria, TextSearchResult textMatches) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchingSlots(criteria, textMatches);
+            long[] result = new long[matches.cardinality()];
+            int i = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                result[i++] = ids[slot];
+            }
+            Arrays.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds one page of the properties matching the given criteria in sort order.
+     * <p>
+     * Only matches strictly after the cursor position are considered, and at most
+     * {@code limit} of them are kept while scanning, so the cost is linear in the number
+     * of matches and logarithmic in the page size.
+     * </p>
+     *
+     * @param criteria the filter criteria
+     * @param sort the sort order
+     * @param direction the sort direction
+     * @param after the position to continue after, or null for the first page
+     * @param limit the maximum number of IDs to return
+     * @return the matching property IDs in sort order
+     */
+    public long[] searchPage(PropertySearchCriteria criteria, PropertySort sort, Sort.Direction direction,
+                             PropertyCursor after, int limit) {
+        return searchPage(criteria, null, sort, direction, after, limit);
+    }
+
+    /**
+     * Finds one page of the properties matching the given criteria and text matches in sort order.
+     * The text query of the criteria is not evaluated here.
+     *
+     * @param criteria the filter criteria
+     * @param textMatches the matches of the text query, or null if there is none
+     * @param sort the sort order; {@link PropertySort#RELEVANCE} orders by text match score and
+     *             {@link PropertySort#DISTANCE} by distance from the center of the criteria
+     * @param direction the sort direction
+     * @param after the position to continue after, or null for the first page
+     * @param limit the maximum number of IDs to return
+     * @return the matching property IDs in sort order
+     * @throws IllegalArgumentException if sorting by relevance without text matches or by
+     *         distance without a search center
+     */
+    public long[] searchPage(PropertySearchCriteria criteria, TextSearchResult textMatches, PropertySort sort,
+                             Sort.Direction direction, PropertyCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            return searchPageLocked(criteria, textMatches, sort, direction, after, limit, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds one page of the matching properties in sort order, and counts the facets of
+     * all matches in the same pass over the matching slots.
+     *
+     * @param criteria the filter criteria
+     * @param textMatches the matches of the text query, or null if there is none
+     * @param sort the sort order
+     * @param direction the sort direction
+     * @param after the position to continue after, or null for the first page
+     * @param limit the maximum number of IDs to return
+     * @return the matching property IDs in sort order and the facet counts of every match
+     * @throws IllegalArgumentException if sorting by relevance without text matches or by
+     *         distance without a search center
+     */
+    public FacetedPage searchFacetedPage(PropertySearchCriteria criteria, TextSearchResult textMatches,
+                                         PropertySort sort, Sort.Direction direction, PropertyCursor after,
+                                         int limit) {
+        lock.readLock().lock();
+        try {
+            FacetCounter facets = new FacetCounter(amenityDictionary.size());
+            long[] ids = searchPageLocked(criteria, textMatches, sort, direction, after, limit, facets);
+            return new FacetedPage(ids, facets.toFacets(amenityDictionary::name));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Selects a page, counting the facets of every match if a counter is given.
+     */
+    private long[] searchPageLocked(PropertySearchCriteria criteria, TextSearchResult textMatches, PropertySort sort,
+                                    Sort.Direction direction, PropertyCursor after, int limit, FacetCounter facets) {
+        if (sort == PropertySort.RELEVANCE && textMatches == null) {
+            throw new IllegalArgumentException("Sorting by relevance requires text matches");
+        }
+        if (sort == PropertySort.DISTANCE && !criteria.hasCenter()) {
+            throw new IllegalArgumentException("Sorting by distance requires a search center");
+        }
+        IntToLongFunction keyOf = sortKeyFunction(sort, criteria, textMatches);
+        Comparator<Candidate> order = Comparator.comparingLong(Candidate::key).thenComparingLong(Candidate::id);
+        if (direction.isDescending()) {
+            order = order.reversed();
+        }
+        Candidate cursor = after != null ? new Candidate(sortKey(sort, after.getKey()), after.getId()) : null;
+
+        if (sort == PropertySort.DISTANCE && direction.isAscending() && !criteria.hasRadius() && limit > 0
+                && facets == null) {
+            // Nearest first: search growing circles around the center. Once a circle
+            // holds a full page, nothing outside it can rank before the page. Facets
+            // need every match, so faceted searches take the full pass below.
+            double radiusKm = NEAREST_INITIAL_RADIUS_KM + (after != null ? (Double) after.getKey() : 0.0);
+            for (; radiusKm < NEAREST_FULL_SCAN_RADIUS_KM; radiusKm *= 2) {
+                BitSet matches = matchingSlots(criteria.toBuilder().radiusKm(radiusKm).build(), textMatches);
+                long[] page = topMatches(matches, keyOf, order, cursor, limit, null);
+                if (page.length == limit) {
+                    return page;
+                }
+            }
+        }
+        return topMatches(matchingSlots(criteria, textMatches), keyOf, order, cursor, limit, facets);
+    }
+
+    /**
+     * Keeps the first {@code limit} matching slots after the cursor in a bounded heap,
+     * counting the facets of every matching slot on the way if a counter is given.
+     */
+    private long[] topMatches(BitSet matches, IntToLongFunction keyOf, Comparator<Candidate> order,
+                              Candidate cursor, int limit, FacetCounter facets) {
+        // Max-heap on the sort order: the head is the worst match kept so far
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (facets != null) {
+                facets.add(priceCents[slot], bedrooms[slot], bathrooms[slot], maxGuests[slot], amenityMasks[slot]);
+            }
+            Candidate candidate = new Candidate(keyOf.applyAsLong(slot), ids[slot]);
+            if (cursor != null) {
+                int cmp = order.compare(candidate, cursor);
+                if (cmp <= 0) {
+                    continue;
+                }
+            }
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (limit > 0 && order.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        long[] result = new long[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll().id();
+        }
+        return result;
+    }
+
+    /**
+     * Lists the amenities offered by at least one indexed property.
+     *
+     * @return the amenity names, sorted case-insensitively
+     */
+    public List<String> amenityNames() {
+        lock.readLock().lock();
+        try {
+            return amenityDictionary.names();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Updates the indexed average rating of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param averageRating the new average rating
+     */
+    public void updateRating(Long propertyId, Double averageRating) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(propertyId);
+            if (slot != null) {
+                ratingKeys[slot] = ratingKey(averageRating);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a property in the index.
+     *
+     * @param property the property to index
+     */
+    @Override
+    public void upsert(Property property) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a property from the index.
+     *
+     * @param propertyId the ID of the property to remove
+     */
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(propertyId);
+            if (slot != null) {
+                clearLocationTokens(slot);
+                clearPosition(slot);
+                clearAmenities(slot);
+                live.clear(slot);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clearLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(List<Property> properties) {
+        lock.writeLock().lock();
+        try {
+            properties.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Updates the indexed rating of a property once its reviews have changed.
+     *
+     * @param event the rating change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyRatingChanged(PropertyRatingChangedEvent event) {
+        updateRating(event.getPropertyId(), event.getAverageRating());
+    }
+
+    /**
+     * Splits a location into lowercase alphanumeric tokens.
+     *
+     * @param text the text to tokenize
+     * @return the distinct tokens in order of appearance
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Converts a price to whole cents.
+     *
+     * @param price the price
+     * @param rounding how to round fractions of a cent
+     * @return the price in cents
+     */
+    static long toCents(BigDecimal price, RoundingMode rounding) {
+        return price.movePointRight(2).setScale(0, rounding).longValue();
+    }
+
+    /**
+     * Converts a timestamp to microseconds since the epoch, the precision kept by the database.
+     *
+     * @param timestamp the timestamp
+     * @return the timestamp in microseconds
+     */
+    static long toEpochMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    /**
+     * Maps a rating or score to a long whose natural order matches its numeric order.
+     *
+     * @param rating the rating, or null for no rating
+     * @return the order-preserving key
+     */
+    static long ratingKey(Double rating) {
+        long bits = Double.doubleToLongBits(rating != null ? rating : 0.0);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the function computing the sort key of a slot. Relevance keys come from the
+     * text match scores and distance keys are computed from the slot coordinates, with
+     * slots lacking coordinates sorted as infinitely far.
+     */
+    private IntToLongFunction sortKeyFunction(PropertySort sort, PropertySearchCriteria criteria,
+                                              TextSearchResult textMatches) {
+        return switch (sort) {
+            case PRICE -> slot -> priceCents[slot];
+            case CREATED_AT -> slot -> createdAtMicros[slot];
+            case RATING -> slot -> ratingKeys[slot];
+            case RELEVANCE -> slot -> ratingKey(textMatches.scoreOf(ids[slot]));
+            case DISTANCE -> slot -> ratingKey(Double.isNaN(latitudes[slot]) ? Double.POSITIVE_INFINITY
+                    : GeoDistance.haversineKm(criteria.getLatitude(), criteria.getLongitude(),
+                    latitudes[slot], longitudes[slot]));
+        };
+    }
+
+    private static long sortKey(PropertySort sort, Object key) {
+        return switch (sort) {
+            case PRICE -> toCents((BigDecimal) key, RoundingMode.HALF_UP);
+            case CREATED_AT -> toEpochMicros((LocalDateTime) key);
+            case RATING, RELEVANCE, DISTANCE -> ratingKey((Double) key);
+        };
+    }
+
+    private BitSet matchingSlots(PropertySearchCriteria criteria, TextSearchResult textMatches) {
+        boolean geoFilter = criteria.hasBoundingBox() || criteria.hasRadius();
+        BitSet matches = geoFilter ? gridCandidates(criteria) : (BitSet) live.clone();
+
+        if (textMatches != null) {
+            BitSet textSlots = new BitSet();
+            for (int i = 0; i < textMatches.size(); i++) {
+                Integer slot = slotsById.get(textMatches.idAt(i));
+                if (slot != null) {
+                    textSlots.set(slot);
+                }
+            }
+            matches.and(textSlots);
+        }
+
+        BitSet locationMatches = matchLocation(criteria.getLocation());
+        if (locationMatches != null) {
+            matches.and(locationMatches);
+        }
+
+        BitSet amenityMatches = amenityDictionary.match(criteria);
+        if (amenityMatches != null) {
+            matches.and(amenityMatches);
+        }
+
+        long minPrice = criteria.getMinPrice() != null ? toCents(criteria.getMinPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxPrice = criteria.getMaxPrice() != null ? toCents(criteria.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int minBedrooms = criteria.getBedrooms() != null ? criteria.getBedrooms() : Integer.MIN_VALUE;
+        int minBathrooms = criteria.getBathrooms() != null ? criteria.getBathrooms() : Integer.MIN_VALUE;
+        int minGuests = criteria.getGuests() != null ? criteria.getGuests() : Integer.MIN_VALUE;
+
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (priceCents[slot] < minPrice || priceCents[slot] > maxPrice
+                    || bedrooms[slot] < minBedrooms
+                    || bathrooms[slot] < minBathrooms
+                    || maxGuests[slot] < minGuests
+                    || geoFilter && !GeoDistance.matches(criteria, latitudes[slot], longitudes[slot])) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Collects the slots in the grid cells overlapping the bounding box and the
+     * rectangle enclosing the radius circle. Candidates still need an exact check.
+     */
+    private BitSet gridCandidates(PropertySearchCriteria criteria) {
+        BitSet candidates = new BitSet();
+        if (criteria.hasRadius()) {
+            double latitude = criteria.getLatitude();
+            double longitude = criteria.getLongitude();
+            double angularRadius = criteria.getRadiusKm() / GeoDistance.EARTH_RADIUS_KM;
+            double minLatitude = latitude - Math.toDegrees(angularRadius);
+            double maxLatitude = latitude + Math.toDegrees(angularRadius);
+            double sinRadiusOverCos = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+            if (minLatitude <= -90 || maxLatitude >= 90 || sinRadiusOverCos >= 1) {
+                // The circle contains a pole or spans every meridian
+                grid.collect(Math.max(-90, minLatitude), Math.min(90, maxLatitude), -180, 180, candidates);
+            } else {
+                double deltaLongitude = Math.toDegrees(Math.asin(sinRadiusOverCos));
+                grid.collect(minLatitude, maxLatitude,
+                        wrapLongitude(longitude - deltaLongitude), wrapLongitude(longitude + deltaLongitude), candidates);
+            }
+        }
+        if (criteria.hasBoundingBox()) {
+            BitSet inBox = new BitSet();
+            grid.collect(criteria.getMinLatitude(), criteria.getMaxLatitude(),
+                    criteria.getMinLongitude(), criteria.getMaxLongitude(), inBox);
+            if (criteria.hasRadius()) {
+                candidates.and(inBox);
+            } else {
+                candidates = inBox;
+            }
+        }
+        return candidates;
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude > 180 ? longitude - 360 : longitude;
+    }
+
+    /**
+     * Resolves the slots matching a location query.
+     * <p>
+     * Every query token must match, and a query token matches any dictionary token that
+     * contains it, which preserves the substring semantics of the SQL {@code LIKE} filter
+     * for word fragments such as "mal" matching "Malibu".
+     * </p>
+     *
+     * @param location the location query
+     * @return the matching slots, or null if the query applies no filter
+     */
+    private BitSet matchLocation(String location) {
+        Set<String> queryTokens = tokenize(location);
+        if (queryTokens.isEmpty()) {
+            return null;
+        }
+        BitSet result = null;
+        for (String queryToken : queryTokens) {
+            BitSet tokenMatches = new BitSet();
+            for (Map.Entry<String, Integer> entry : tokenIds.entrySet()) {
+                if (entry.getKey().contains(queryToken)) {
+                    tokenMatches.or(tokenPostings.get(entry.getValue()));
+                }
+            }
+            if (result == null) {
+                result = tokenMatches;
+            } else {
+                result.and(tokenMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void upsertLocked(Property property) {
+        Integer slot = slotsById.get(property.getId());
+        if (slot == null) {
+            slot = allocateSlot();
+            slotsById.put(property.getId(), slot);
+        } else {
+            clearLocationTokens(slot);
+            clearPosition(slot);
+            clearAmenities(slot);
+        }
+
+        ids[slot] = property.getId();
+        priceCents[slot] = property.getPrice() != null ? toCents(property.getPrice(), RoundingMode.HALF_UP) : 0L;
+        bedrooms[slot] = property.getBedrooms() != null ? property.getBedrooms() : 0;
+        bathrooms[slot] = property.getBathrooms() != null ? property.getBathrooms() : 0;
+        maxGuests[slot] = property.getMaxGuests() != null ? property.getMaxGuests() : 0;
+        createdAtMicros[slot] = property.getCreatedAt() != null ? toEpochMicros(property.getCreatedAt()) : 0L;
+        ratingKeys[slot] = ratingKey(property.getAverageRating());
+        setPosition(slot, property.getLatitude(), property.getLongitude());
+
+        Set<String> tokens = tokenize(property.getLocation());
+        int[] slotTokens = new int[tokens.size()];
+        int i = 0;
+        for (String token : tokens) {
+            int tokenId = tokenIds.computeIfAbsent(token, t -> {
+                tokenPostings.add(new BitSet());
+                return tokenPostings.size() - 1;
+            });
+            tokenPostings.get(tokenId).set(slot);
+            slotTokens[i++] = tokenId;
+        }
+        locationTokens[slot] = slotTokens;
+        amenityMasks[slot] = amenityDictionary.add(slot, AmenityDictionary.parse(property.getAmenities()));
+        live.set(slot);
+    }
+
+    private void clearLocationTokens(int slot) {
+        for (int tokenId : locationTokens[slot]) {
+            tokenPostings.get(tokenId).clear(slot);
+        }
+        locationTokens[slot] = NO_TOKENS;
+    }
+
+    private void clearAmenities(int slot) {
+        if (amenityMasks[slot] != null) {
+            amenityDictionary.remove(slot, amenityMasks[slot]);
+            amenityMasks[slot] = null;
+        }
+    }
+
+    private void setPosition(int slot, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            latitudes[slot] = latitude;
+            longitudes[slot] = longitude;
+            grid.add(slot, latitude, longitude);
+        } else {
+            latitudes[slot] = Double.NaN;
+            longitudes[slot] = Double.NaN;
+        }
+    }
+
+    private void clearPosition(int slot) {
+        if (!Double.isNaN(latitudes[slot])) {
+            grid.remove(slot, latitudes[slot], longitudes[slot]);
+        }
+        latitudes[slot] = Double.NaN;
+        longitudes[slot] = Double.NaN;
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+            bedrooms = Arrays.copyOf(bedrooms, capacity);
+            bathrooms = Arrays.copyOf(bathrooms, capacity);
+            maxGuests = Arrays.copyOf(maxGuests, capacity);
+            locationTokens = Arrays.copyOf(locationTokens, capacity);
+            createdAtMicros = Arrays.copyOf(createdAtMicros, capacity);
+            ratingKeys = Arrays.copyOf(ratingKeys, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            amenityMasks = Arrays.copyOf(amenityMasks, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void clearLocked() {
+        live.clear();
+        slotsById.clear();
+        freeSlots.clear();
+        slotCount = 0;
+        tokenIds.clear();
+        tokenPostings.clear();
+        amenityDictionary.clear();
+        grid.clear();
+    }
+
+    /**
+     * A match being ranked: its sort key and property ID.
+     */
+    private record Candidate(long key, long id) {
+    }
+}
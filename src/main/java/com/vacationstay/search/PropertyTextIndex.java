@@ -0,0 +1,330 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.model.Property;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory full-text index of property titles, descriptions, locations and amenities.
+ * <p>
+ * Every property is analyzed with each {@link TextAnalyzer} and added to one
+ * {@link InvertedIndex} per language, so a query is matched with the analyzer of the
+ * visitor's locale whatever language a listing is written in. Terms are weighted by the
+ * field they occur in: a title occurrence counts {@value #TITLE_WEIGHT} times, a location
+ * or amenity occurrence {@value #LOCATION_WEIGHT} times and a description occurrence once.
+ * Matches are ranked with BM25.
+ * </p>
+ * <p>
+ * Properties are numbered in the order they are indexed and an updated property is
+ * re-added under a new number, so postings are only ever appended. Once removed
+ * documents outnumber live ones, the postings are rewritten without them.
+ * </p>
+ * <p>
+ * The index is loaded and kept up to date by the {@link PropertyIndexLoader}: properties
+ * are analyzed in parallel within each loaded batch and the per-language postings are
+ * then built in parallel. Until the initial load completes, {@link #isReady()} returns
+ * {@code false} and callers should use {@link #rank}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class PropertyTextIndex implements PropertyIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int LOCATION_WEIGHT = 2;
+    static final int AMENITIES_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_REMOVED_FOR_RENUMBERING = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<TextAnalyzer, InvertedIndex> indexes = newIndexes();
+
+    // Property ID of each document number
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> documentsById = new HashMap<>();
+    private int documentCount;
+
+    private volatile boolean ready;
+
+    /**
+     * Indicates whether the initial load has completed.
+     *
+     * @return true if queries can be answered from the index
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed properties.
+     *
+     * @return the number of indexed properties
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the properties containing every term of a query.
+     *
+     * @param text the query text
+     * @param locale the locale whose analyzer is applied to the query
+     * @return the matching properties and their relevance scores
+     */
+    public TextSearchResult search(String text, Locale locale) {
+        lock.readLock().lock();
+        try {
+            return indexes.get(TextAnalyzer.forLocale(locale)).search(text, live, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Matches and scores a query against the given properties only, without the index.
+     * <p>
+     * Collection statistics are computed over the given properties, so scores are
+     * comparable with each other but not with those returned by {@link #search}.
+     * </p>
+     *
+     * @param text the query text
+     * @param locale the locale whose analyzer is applied
+     * @param properties the properties to match
+     * @return the matching properties and their relevance scores
+     */
+    public static TextSearchResult rank(String text, Locale locale, Collection<PropertyDTO> properties) {
+        InvertedIndex index = new InvertedIndex(TextAnalyzer.forLocale(locale));
+        long[] propertyIds = new long[properties.size()];
+        BitSet all = new BitSet();
+        int document = 0;
+        for (PropertyDTO property : properties) {
+            String amenities = property.getAmenities() != null ? String.join(" ", property.getAmenities()) : null;
+            index.add(document, termFrequencies(index.analyzer(), property.getTitle(), property.getDescription(),
+                    property.getLocation(), amenities));
+            propertyIds[document] = property.getId();
+            all.set(document++);
+        }
+        return index.search(text, all, propertyIds);
+    }
+
+    /**
+     * Adds or replaces a property in the index.
+     *
+     * @param property the property to index
+     */
+    @Override
+    public void upsert(Property property) {
+        Map<TextAnalyzer, Map<String, Integer>> analyzed = analyze(property);
+        lock.writeLock().lock();
+        try {
+            removeLocked(property.getId());
+            addLocked(List.of(property.getId()), List.of(analyzed), false);
+            renumberIfSparseLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a property from the index.
+     *
+     * @param propertyId the ID of the property to remove
+     */
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(propertyId);
+            renumberIfSparseLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clearLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is analyzed in parallel before the write lock is taken, and the postings
+     * of each language are then appended in parallel.
+     * </p>
+     */
+    @Override
+    public void load(List<Property> properties) {
+        List<Map<TextAnalyzer, Map<String, Integer>>> documents = properties.parallelStream()
+                .map(PropertyTextIndex::analyze)
+                .toList();
+        lock.writeLock().lock();
+        try {
+            addLocked(properties.stream().map(Property::getId).toList(), documents, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Counts the weighted occurrences of each term in the searchable fields of a property.
+     *
+     * @param analyzer the analyzer to apply
+     * @param title the title
+     * @param description the description
+     * @param location the location
+     * @param amenities the amenities, as free text
+     * @return the weighted frequency of each term
+     */
+    static Map<String, Integer> termFrequencies(TextAnalyzer analyzer, String title, String description,
+                                                String location, String amenities) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        count(frequencies, analyzer.analyze(title), TITLE_WEIGHT);
+        count(frequencies, analyzer.analyze(description), DESCRIPTION_WEIGHT);
+        count(frequencies, analyzer.analyze(location), LOCATION_WEIGHT);
+        count(frequencies, analyzer.analyze(amenities), AMENITIES_WEIGHT);
+        return frequencies;
+    }
+
+    private static void count(Map<String, Integer> frequencies, List<String> terms, int weight) {
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Analyzes a property with every analyzer. The amenities are a JSON array of strings,
+     * whose punctuation the analyzers discard.
+     */
+    private static Map<TextAnalyzer, Map<String, Integer>> analyze(Property property) {
+        Map<TextAnalyzer, Map<String, Integer>> analyzed = new EnumMap<>(TextAnalyzer.class);
+        for (TextAnalyzer analyzer : TextAnalyzer.values()) {
+            analyzed.put(analyzer, termFrequencies(analyzer, property.getTitle(), property.getDescription(),
+                    property.getLocation(), property.getAmenities()));
+        }
+        return analyzed;
+    }
+
+    private static Map<TextAnalyzer, InvertedIndex> newIndexes() {
+        Map<TextAnalyzer, InvertedIndex> indexes = new EnumMap<>(TextAnalyzer.class);
+        for (TextAnalyzer analyzer : TextAnalyzer.values()) {
+            indexes.put(analyzer, new InvertedIndex(analyzer));
+        }
+        return indexes;
+    }
+
+    /**
+     * Adds new properties under the next document numbers.
+     *
+     * @param propertyIds the IDs of properties not currently indexed
+     * @param documents the analyzed properties, in the same order
+     * @param parallel whether to build the postings of each language concurrently
+     */
+    private void addLocked(List<Long> propertyIds, List<Map<TextAnalyzer, Map<String, Integer>>> documents,
+                           boolean parallel) {
+        if (propertyIds.isEmpty()) {
+            return;
+        }
+        int first = documentCount;
+        if (first + propertyIds.size() > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, first + propertyIds.size()));
+        }
+        for (Long propertyId : propertyIds) {
+            ids[documentCount] = propertyId;
+            documentsById.put(propertyId, documentCount);
+            live.set(documentCount++);
+        }
+        // Languages are independent, so their postings can be appended concurrently
+        (parallel ? indexes.values().parallelStream() : indexes.values().stream()).forEach(index -> {
+            for (int i = 0; i < documents.size(); i++) {
+                index.add(first + i, documents.get(i).get(index.analyzer()));
+            }
+        });
+    }
+
+    private void removeLocked(Long propertyId) {
+        Integer document = documentsById.remove(propertyId);
+        if (document != null) {
+            live.clear(document);
+            for (InvertedIndex index : indexes.values()) {
+                index.remove(document);
+            }
+        }
+    }
+
+    /**
+     * Drops the postings of removed properties once they outnumber the live ones.
+     */
+    private void renumberIfSparseLocked() {
+        int removed = documentCount - documentsById.size();
+        if (removed < MIN_REMOVED_FOR_RENUMBERING || removed <= documentsById.size()) {
+            return;
+        }
+        int[] newNumbers = new int[documentCount];
+        int kept = 0;
+        for (int document = 0; document < documentCount; document++) {
+            newNumbers[document] = live.get(document) ? kept++ : -1;
+        }
+        long[] newIds = new long[Math.max(INITIAL_CAPACITY, kept)];
+        for (int document = 0; document < documentCount; document++) {
+            if (newNumbers[document] >= 0) {
+                newIds[newNumbers[document]] = ids[document];
+                documentsById.put(ids[document], newNumbers[document]);
+            }
+        }
+        for (InvertedIndex index : indexes.values()) {
+            index.renumber(newNumbers, kept);
+        }
+        ids = newIds;
+        documentCount = kept;
+        live.clear();
+        live.set(0, kept);
+    }
+
+    private void clearLocked() {
+        indexes.replaceAll((analyzer, index) -> new InvertedIndex(analyzer));
+        live.clear();
+        documentsById.clear();
+        documentCount = 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.vacationstay.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size latitude/longitude grid bucketing index slots by position.
+ * <p>
+ * Each non-empty cell holds the slots located in it, like a geohash prefix bucket but
+ * with square cells in degrees. A rectangle query visits only the cells overlapping the
+ * rectangle, or every non-empty cell when that is fewer, and returns their slots as
+ * candidates that the caller still has to check against the exact shape.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class SpatialGrid {
+
+    private final double cellDegrees;
+    private final int latitudeCells;
+    private final int longitudeCells;
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * @param cellDegrees the side of a cell in degrees
+     */
+    SpatialGrid(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.latitudeCells = (int) Math.ceil(180 / cellDegrees);
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Adds a slot at a position.
+     *
+     * @param slot the slot
+     * @param latitude the latitude in degrees
+     * @param longitude the longitude in degrees
+     */
+    void add(int slot, double latitude, double longitude) {
+        cells.computeIfAbsent(key(latitudeCell(latitude), longitudeCell(longitude)), k -> new Cell()).add(slot);
+    }
+
+    /**
+     * Removes a slot previously added at a position.
+     *
+     * @param slot the slot
+     * @param latitude the latitude the slot was added at
+     * @param longitude the longitude the slot was added at
+     */
+    void remove(int slot, double latitude, double longitude) {
+        long key = key(latitudeCell(latitude), longitudeCell(longitude));
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(slot) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Removes every slot.
+     */
+    void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Collects the slots of the cells overlapping a rectangle.
+     *
+     * @param minLatitude the southern edge
+     * @param maxLatitude the northern edge
+     * @param minLongitude the western edge
+     * @param maxLongitude the eastern edge; less than the western edge if the rectangle
+     *                     crosses the antimeridian
+     * @param into the set receiving the slots
+     */
+    void collect(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, BitSet into) {
+        int fromLat = latitudeCell(minLatitude);
+        int toLat = latitudeCell(maxLatitude);
+        int fromLon = longitudeCell(minLongitude);
+        int toLon = longitudeCell(maxLongitude);
+        boolean wraps = minLongitude > maxLongitude;
+        long lonCount = wraps ? (longitudeCells - fromLon) + toLon + 1L : toLon - fromLon + 1L;
+        long cellCount = (toLat - fromLat + 1L) * lonCount;
+
+        if (cellCount > cells.size()) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int lat = (int) (entry.getKey() / longitudeCells);
+                int lon = (int) (entry.getKey() % longitudeCells);
+                boolean inLon = wraps ? lon >= fromLon || lon <= toLon : lon >= fromLon && lon <= toLon;
+                if (lat >= fromLat && lat <= toLat && inLon) {
+                    entry.getValue().copyTo(into);
+                }
+            }
+            return;
+        }
+        for (int lat = fromLat; lat <= toLat; lat++) {
+            if (wraps) {
+                collectRow(lat, fromLon, longitudeCells - 1, into);
+                collectRow(lat, 0, toLon, into);
+            } else {
+                collectRow(lat, fromLon, toLon, into);
+            }
+        }
+    }
+
+    private void collectRow(int lat, int fromLon, int toLon, BitSet into) {
+        for (int lon = fromLon; lon <= toLon; lon++) {
+            Cell cell = cells.get(key(lat, lon));
+            if (cell != null) {
+                cell.copyTo(into);
+            }
+        }
+    }
+
+    private int latitudeCell(double latitude) {
+        return Math.min(latitudeCells - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int longitudeCell(double longitude) {
+        return Math.min(longitudeCells - 1, Math.max(0, (int) Math.floor((longitude + 180) / cellDegrees)));
+    }
+
+    private long key(int latitudeCell, int longitudeCell) {
+        return (long) latitudeCell * longitudeCells + longitudeCell;
+    }
+
+    /**
+     * The slots located in one cell, in no particular order.
+     */
+    private static final class Cell {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void copyTo(BitSet into) {
+            for (int i = 0; i < size; i++) {
+                into.set(slots[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.vacationstay.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Language-specific text analysis for full-text search.
+ * <p>
+ * Text is lowercased, stripped of diacritics (so "café" matches "cafe" and "ház" matches
+ * "haz"), split into letter and digit runs, filtered against a stopword list and reduced
+ * with a light suffix-stripping stemmer. The same analyzer must be applied to the indexed
+ * documents and to the queries run against them. One analyzer exists for each language
+ * the site is translated into.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum TextAnalyzer {
+
+    /**
+     * English: plural and -ing/-ed suffixes are removed.
+     */
+    ENGLISH("en", Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "into",
+            "is", "it", "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "was",
+            "were", "will", "with", "you", "your")) {
+        @Override
+        String stem(String term) {
+            if (term.endsWith("ies") && term.length() > 4) {
+                term = term.substring(0, term.length() - 3) + "y";
+            } else if (term.endsWith("sses")) {
+                term = term.substring(0, term.length() - 2);
+            } else if (term.endsWith("s") && term.length() > 3
+                    && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+                term = term.substring(0, term.length() - 1);
+            }
+            if (term.endsWith("ing") && term.length() > 5) {
+                return term.substring(0, term.length() - 3);
+            }
+            if (term.endsWith("ed") && term.length() > 4) {
+                return term.substring(0, term.length() - 2);
+            }
+            return term;
+        }
+    },
+
+    /**
+     * Spanish: plural endings and the final gender vowel are removed.
+     */
+    SPANISH("es", Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "es", "esta", "este", "la", "las", "lo",
+            "los", "mas", "muy", "o", "para", "por", "que", "se", "su", "sus", "u", "un", "una",
+            "unas", "unos", "y")) {
+        @Override
+        String stem(String term) {
+            if (term.endsWith("ces") && term.length() > 4) {
+                return term.substring(0, term.length() - 3) + "z";
+            }
+            if (term.endsWith("es") && term.length() > 4) {
+                term = term.substring(0, term.length() - 2);
+            } else if (term.endsWith("s") && term.length() > 3) {
+                term = term.substring(0, term.length() - 1);
+            }
+            char last = term.charAt(term.length() - 1);
+            if ((last == 'a' || last == 'o' || last == 'e') && term.length() > 3) {
+                return term.substring(0, term.length() - 1);
+            }
+            return term;
+        }
+    },
+
+    /**
+     * Hungarian: the most frequent case suffixes and the plural marker are removed.
+     */
+    HUNGARIAN("hu", Set.of(
+            "a", "az", "be", "csak", "de", "egy", "el", "es", "ez", "fel", "ha", "hogy", "is", "ki",
+            "le", "meg", "mint", "nagyon", "nem", "sem", "van", "vagy", "volt")) {
+        @Override
+        String stem(String term) {
+            term = stripSuffix(term, HUNGARIAN_CASE_SUFFIXES);
+            return stripSuffix(term, HUNGARIAN_PLURAL_SUFFIXES);
+        }
+    };
+
+    // Longest first, so that -ban is tried before -ba; accents are already folded
+    private static final String[] HUNGARIAN_CASE_SUFFIXES = {
+            "bol", "rol", "tol", "ban", "ben", "nak", "nek", "val", "vel", "hoz", "hez",
+            "ba", "be", "ra", "re", "ig", "on", "en", "at", "et", "ot", "t"
+    };
+    private static final String[] HUNGARIAN_PLURAL_SUFFIXES = {"ak", "ek", "ok", "k"};
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final String language;
+    private final Set<String> stopwords;
+
+    TextAnalyzer(String language, Set<String> stopwords) {
+        this.language = language;
+        this.stopwords = stopwords;
+    }
+
+    /**
+     * @return the ISO 639 code of the analyzed language
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Resolves the analyzer for a locale.
+     *
+     * @param locale the locale, or null
+     * @return the analyzer for the locale's language, or {@link #ENGLISH} if it has none
+     */
+    public static TextAnalyzer forLocale(Locale locale) {
+        if (locale != null) {
+            for (TextAnalyzer analyzer : values()) {
+                if (analyzer.language.equals(locale.getLanguage())) {
+                    return analyzer;
+                }
+            }
+        }
+        return ENGLISH;
+    }
+
+    /**
+     * Splits text into index terms.
+     *
+     * @param text the text to analyze, or null
+     * @return the terms in order of appearance, including repetitions
+     */
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+                .replaceAll("");
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty() && !stopwords.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    private static String stripSuffix(String term, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (term.endsWith(suffix) && term.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return term.substring(0, term.length() - suffix.length());
+            }
+        }
+        return term;
+    }
+
+    /**
+     * Reduces a lowercase, accent-folded token to its stem.
+     *
+     * @param term the token
+     * @return the stem
+     */
+    abstract String stem(String term);
+}
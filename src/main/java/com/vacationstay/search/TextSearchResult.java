@@ -0,0 +1,118 @@
+package com.vacationstay.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * The properties matching a full-text query and their relevance scores.
+ * <p>
+ * Matches are held in ascending ID order in two parallel primitive arrays, so the score
+ * of a property is found with a binary search and no boxing.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class TextSearchResult {
+
+    private static final TextSearchResult EMPTY = new TextSearchResult(new long[0], new double[0]);
+
+    private final long[] ids;
+    private final double[] scores;
+
+    private TextSearchResult(long[] ids, double[] scores) {
+        this.ids = ids;
+        this.scores = scores;
+    }
+
+    /**
+     * @return a result without matches
+     */
+    static TextSearchResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a result from matches in any order.
+     *
+     * @param ids the matching property IDs, without duplicates
+     * @param scores the score of each property
+     * @param count the number of matches in the arrays
+     * @return the result
+     */
+    static TextSearchResult of(long[] ids, double[] scores, int count) {
+        int[] order = IntStream.range(0, count).boxed()
+                .sorted(Comparator.comparingLong(i -> ids[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] sortedIds = new long[count];
+        double[] sortedScores = new double[count];
+        for (int i = 0; i < count; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedScores[i] = scores[order[i]];
+        }
+        return new TextSearchResult(sortedIds, sortedScores);
+    }
+
+    /**
+     * @return the number of matching properties
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the ID of a match.
+     *
+     * @param index the position of the match in ascending ID order
+     * @return the property ID
+     */
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Returns the score of a match.
+     *
+     * @param index the position of the match in ascending ID order
+     * @return the relevance score
+     */
+    public double scoreAt(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Indicates whether a property matches.
+     *
+     * @param id the property ID
+     * @return true if the property matches the query
+     */
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Returns the score of a property.
+     *
+     * @param id the property ID
+     * @return the relevance score, or 0 if the property does not match
+     */
+    public double scoreOf(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? scores[index] : 0.0;
+    }
+
+    /**
+     * Lists the matches from most to least relevant, ties broken by ascending ID.
+     *
+     * @return the matching property IDs in relevance order
+     */
+    public long[] idsByRelevance() {
+        return IntStream.range(0, ids.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparingLong(i -> ids[i]))
+                .mapToLong(i -> ids[i])
+                .toArray();
+    }
+}
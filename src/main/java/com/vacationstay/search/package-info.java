@@ -0,0 +1,13 @@
+/**
+ * Package containing in-memory search structures for the VacationStay rental application.
+ * <p>
+ * This package contains indexes that answer property searches without scanning
+ * the database. They are built from the database at startup and kept up to date
+ * through the events published by the service layer.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.vacationstay.search;
@@ -0,0 +1,158 @@
+package com.vacationstay.security;
+
+import com.vacationstay.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password encoder that runs hashing and verification on a dedicated, bounded executor.
+ * <p>
+ * Password hashing is deliberately CPU-expensive. Running it on request threads lets a
+ * burst of logins or registrations occupy every worker with hashing and starve cheap
+ * requests. This encoder limits hashing to a fixed number of threads (one per core by
+ * default) behind a bounded queue; once the queue is full, further calls fail immediately
+ * with a {@link TooManyRequestsException} instead of piling up, which the API reports as
+ * 429. Verification fails with a {@link PasswordHashingBusyException} instead, because
+ * it runs inside authentication, where only authentication exceptions are handled; the
+ * login endpoints map it to 429 as well.
+ * </p>
+ * <p>
+ * Queue depth, active threads and completed tasks are published as {@code executor.*}
+ * meters tagged {@code name=passwordHashing}; rejections are counted in
+ * {@code password.hashing.rejected}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String BUSY_MESSAGE = "The server is busy. Please try again shortly.";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Counter rejections;
+
+    /**
+     * Creates the encoder.
+     *
+     * @param delegate the encoder doing the actual hashing
+     * @param threads the number of hashing threads
+     * @param queueCapacity the number of hashing requests that may wait for a thread
+     * @param timeoutMs the maximum time a caller waits for its result
+     * @param meterRegistry the registry to publish metrics to, or null
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        if (meterRegistry != null) {
+            new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+            this.rejections = Counter.builder("password.hashing.rejected")
+                    .description("Password hashing requests rejected because the executor was saturated")
+                    .register(meterRegistry);
+        } else {
+            this.rejections = null;
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return execute(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (TooManyRequestsException e) {
+            throw new PasswordHashingBusyException(e.getMessage(), e.getRetryAfterSeconds(), e);
+        }
+    }
+
+    /**
+     * Checks whether a stored hash was produced with weaker settings than configured.
+     * <p>
+     * This only parses the hash prefix, so it runs on the caller's thread.
+     * </p>
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            if (rejections != null) {
+                rejections.increment();
+            }
+            log.warn("Password hashing rejected: {} queued, {} active", executor.getQueue().size(),
+                    executor.getActiveCount());
+            throw new TooManyRequestsException(BUSY_MESSAGE, RETRY_AFTER_SECONDS, e);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException(BUSY_MESSAGE, RETRY_AFTER_SECONDS, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Creates named daemon threads for the hashing executor.
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
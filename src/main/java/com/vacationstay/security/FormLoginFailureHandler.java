@@ -0,0 +1,48 @@
+package com.vacationstay.security;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Failure handler for the web login form.
+ * <p>
+ * Rejected credentials redirect back to the login page as before. A login rejected
+ * because password hashing is saturated is answered with 429 and a
+ * {@code Retry-After} header instead.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Slf4j
+public class FormLoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    private static final String FAILURE_URL = "/login?error";
+
+    public FormLoginFailureHandler() {
+        super(FAILURE_URL);
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        if (exception instanceof PasswordHashingBusyException busy) {
+            log.warn("Login rejected: {}", busy.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), busy.getMessage());
+            return;
+        }
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
@@ -1,6 +1,6 @@
 package com.vacationstay.security;
 
-import com.vacationstay.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,7 +35,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationList tokenRevocationList;
 
     /**
      * Filters incoming requests to check for JWT authentication.
@@ -54,10 +55,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String email = jwtUtil.getEmailFromToken(jwt);
-                
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+            Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseToken(jwt) : null;
+            if (claims != null && claims.getId() != null && tokenRevocationList.isRevoked(claims.getId())) {
+                log.debug("Rejected revoked JWT for user: {}", claims.getSubject());
+            } else if (claims != null) {
+                // Tokens carrying identity claims need no user lookup; older tokens fall back to the cache
+                UserDetails userDetails = jwtUtil.getPrincipal(claims);
+                if (userDetails == null) {
+                    userDetails = userPrincipalCache.getPrincipal(claims.getSubject());
+                }
                 
                 if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication = 
@@ -65,7 +71,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Successfully authenticated user: {}", email);
+                    log.debug("Successfully authenticated user: {}", userDetails.getUsername());
                 }
             }
         } catch (Exception ex) {
@@ -1,14 +1,22 @@
 package com.vacationstay.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for handling JWT tokens.
@@ -25,11 +33,54 @@ import java.util.Date;
 @Slf4j
 public class JwtUtil {
 
-    @Value("${app.jwt.secret:vacationstay-secret-key-for-jwt-tokens-minimum-256-bits-required}")
-    private String jwtSecret;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${app.jwt.expiration:86400000}") // 24 hours in milliseconds
-    private long jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpirationMs;
+    private final Cache<String, Claims> verifiedTokens;
+
+    /**
+     * Creates the utility, deriving the signing key and building the parser once.
+     *
+     * @param jwtSecret the HMAC secret
+     * @param jwtExpirationMs the token lifetime in milliseconds
+     * @param verifiedCacheSize the number of verified tokens to remember, or 0 to disable the cache
+     */
+    public JwtUtil(@Value("${app.jwt.secret:vacationstay-secret-key-for-jwt-tokens-minimum-256-bits-required}") String jwtSecret,
+                   @Value("${app.jwt.expiration:86400000}") long jwtExpirationMs,
+                   @Value("${app.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new Expiry<String, Claims>() {
+                            @Override
+                            public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                                // Remembered only until the token itself expires
+                                long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                            }
+
+                            @Override
+                            public long expireAfterUpdate(String token, Claims claims, long currentTime,
+                                                          long currentDuration) {
+                                return currentDuration;
+                            }
+
+                            @Override
+                            public long expireAfterRead(String token, Claims claims, long currentTime,
+                                                        long currentDuration) {
+                                return currentDuration;
+                            }
+                        })
+                        .build()
+                : null;
+    }
 
     /**
      * Generates a JWT token for the authenticated user.
@@ -39,13 +90,34 @@ public class JwtUtil {
      */
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return generateToken(userPrincipal.getId(), userPrincipal.getEmail(), userPrincipal.getName(),
+                userPrincipal.getRoles());
+    }
+
+    /**
+     * Generates a JWT token carrying the user's identity and roles as claims.
+     * <p>
+     * Tokens with these claims are authenticated without loading the user.
+     * </p>
+     *
+     * @param id the user's ID
+     * @param email the user's email
+     * @param name the user's display name
+     * @param roles the user's role names, without the {@code ROLE_} prefix
+     * @return the generated JWT token
+     */
+    public String generateToken(Long id, String email, String name, Collection<String> roles) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationMs);
 
         return Jwts.builder()
-                .setSubject(userPrincipal.getEmail())
+                .setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .claim(USER_ID_CLAIM, id)
+                .claim(NAME_CLAIM, name)
+                .claim(ROLES_CLAIM, roles == null ? List.of() : List.copyOf(roles))
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -60,42 +132,39 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * Extracts the email from a JWT token.
+     * Verifies a JWT token and returns its claims.
+     * <p>
+     * This is the single verification entry point: the signature and expiry are checked
+     * once, with the key and parser built at startup. Recently verified tokens are served
+     * from a bounded cache until they expire, so repeated requests with the same token
+     * skip the HMAC computation entirely.
+     * </p>
      *
      * @param token the JWT token
-     * @return the email extracted from the token
+     * @return the verified claims, or null if the token is invalid or expired
      */
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
-    }
-
-    /**
-     * Validates a JWT token.
-     *
-     * @param token the JWT token to validate
-     * @return true if the token is valid, false otherwise
-     */
-    public boolean validateToken(String token) {
+    public Claims parseToken(String token) {
+        if (verifiedTokens != null) {
+            Claims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return cached;
+            }
+        }
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException ex) {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (verifiedTokens != null && claims.getExpiration() != null) {
+                verifiedTokens.put(token, claims);
+            }
+            return claims;
+        } catch (SignatureException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
@@ -105,17 +174,47 @@ public class JwtUtil {
             log.error("Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            log.error("Invalid JWT token: {}", ex.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
-     * Gets the signing key for JWT tokens.
+     * Builds the principal described by verified token claims.
      *
-     * @return the signing key
+     * @param claims the verified claims
+     * @return the principal, or null if the claims carry no user ID
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public UserPrincipal getPrincipal(Claims claims) {
+        Number id = claims.get(USER_ID_CLAIM, Number.class);
+        if (id == null) {
+            return null;
+        }
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return UserPrincipal.create(id.longValue(), claims.getSubject(), claims.get(NAME_CLAIM, String.class),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList());
+    }
+
+    /**
+     * Extracts the email from a JWT token.
+     *
+     * @param token the JWT token
+     * @return the email extracted from the token, or null if the token is invalid
+     */
+    public String getEmailFromToken(String token) {
+        Claims claims = parseToken(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * Validates a JWT token.
+     *
+     * @param token the JWT token to validate
+     * @return true if the token is valid, false otherwise
+     */
+    public boolean validateToken(String token) {
+        return parseToken(token) != null;
     }
 
     /**
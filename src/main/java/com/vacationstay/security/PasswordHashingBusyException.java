@@ -0,0 +1,29 @@
+package com.vacationstay.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Authentication failure raised when a password cannot be verified because the hashing
+ * executor is saturated.
+ * <p>
+ * Verification runs inside the authentication filters, which only handle
+ * {@link org.springframework.security.core.AuthenticationException}s, so saturation
+ * during a login is reported with this type rather than
+ * {@link com.vacationstay.exception.TooManyRequestsException}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
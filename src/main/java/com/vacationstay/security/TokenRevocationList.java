@@ -0,0 +1,135 @@
+package com.vacationstay.security;
+
+import com.vacationstay.model.RevokedToken;
+import com.vacationstay.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks JWTs revoked before their expiry.
+ * <p>
+ * Revocations are persisted to the {@code revoked_tokens} table and mirrored in memory
+ * in two tiers: a Bloom filter that answers the common "not revoked" case with a few
+ * bit probes, and an exact map of token ID to expiry that settles the Bloom filter's
+ * occasional false positives. No request-path check touches the database.
+ * </p>
+ * <p>
+ * Records are only kept until the token would have expired. Pruning removes them from
+ * the table and the map and rebuilds the Bloom filter, which cannot delete entries.
+ * Tokens revoked by other instances are picked up by {@link #synchronize()}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Slf4j
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedEntries;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant synchronizedUntil = Instant.EPOCH;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${app.jwt.revocation.expected-entries:100000}") long expectedEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.bloomFilter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Loads the unexpired revocations before the application starts serving requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        synchronizedUntil = now;
+        log.info("Loaded {} revoked tokens", revoked.size());
+    }
+
+    /**
+     * Tells whether a token has been revoked.
+     *
+     * @param jti the token ID
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String jti) {
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revokes a token until it expires.
+     * <p>
+     * The record is inserted in a transaction of its own, so a concurrent or repeated
+     * revocation of the same token fails on the primary key and is treated as already
+     * revoked.
+     * </p>
+     *
+     * @param jti the token ID
+     * @param expiresAt when the token expires
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (revoked.containsKey(jti) || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        RevokedToken token = new RevokedToken(jti, expiresAt, Instant.now());
+        try {
+            revokedTokenRepository.saveAndFlush(token);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Token {} was already revoked", jti);
+        }
+        remember(token);
+    }
+
+    /**
+     * Loads tokens revoked by other instances since the last synchronization.
+     */
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        // Overlap the window slightly so rows committed out of order are not missed
+        Instant since = synchronizedUntil.minusSeconds(5);
+        Instant now = Instant.now();
+        revokedTokenRepository.findByRevokedAtAfter(since).forEach(this::remember);
+        synchronizedUntil = now;
+    }
+
+    /**
+     * Forgets revocations of tokens that have expired and rebuilds the Bloom filter.
+     *
+     * @return the number of records deleted from the database
+     */
+    @Transactional
+    public int pruneExpired() {
+        Instant now = Instant.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        // Populate the new filter before publishing it so no revoked token is ever missed, then
+        // add again to catch tokens revoked into the old filter while the first pass ran
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, 2L * revoked.size()), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+        revoked.keySet().forEach(rebuilt::add);
+        return deleted;
+    }
+
+    private void remember(RevokedToken token) {
+        revoked.put(token.getJti(), token.getExpiresAt());
+        bloomFilter.add(token.getJti());
+    }
+}
@@ -13,6 +13,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public class UserPrincipal implements OAuth2User, UserDetails {
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private Long id;
     private String email;
     private String password;
@@ -30,7 +32,7 @@ public class UserPrincipal implements OAuth2User, UserDetails {
 
     public static UserPrincipal create(User user) {
         List<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
                 .collect(Collectors.toList());
 
         return new UserPrincipal(
@@ -42,6 +44,14 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         );
     }
 
+    public static UserPrincipal create(Long id, String email, String name, Collection<String> roles) {
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
+                .collect(Collectors.toList());
+
+        return new UserPrincipal(id, email, null, name, authorities);
+    }
+
     public static UserPrincipal create(User user, Map<String, Object> attributes) {
         UserPrincipal userPrincipal = UserPrincipal.create(user);
         userPrincipal.setAttributes(attributes);
@@ -56,6 +66,13 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         return email;
     }
 
+    public List<String> getRoles() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String getUsername() {
         return email;
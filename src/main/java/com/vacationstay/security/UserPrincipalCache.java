@@ -0,0 +1,54 @@
+package com.vacationstay.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vacationstay.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of user principals loaded from the database.
+ * <p>
+ * JWT requests are normally authenticated from token claims alone. Tokens issued without
+ * identity claims carry only the user's email, so their principal is loaded from the
+ * database and cached here. Entries expire after
+ * {@code app.security.principal-cache.ttl-ms} (30 seconds by default), which bounds how
+ * long a role change takes to reach such tokens while still absorbing bursts of requests
+ * from the same user.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Cache<String, UserDetails> principals;
+
+    public UserPrincipalCache(CustomUserDetailsService customUserDetailsService,
+                              @Value("${app.security.principal-cache.ttl-ms:30000}") long ttlMs,
+                              @Value("${app.security.principal-cache.max-size:10000}") long maximumSize) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the principal of a user, loading it if it is not cached.
+     *
+     * @param email the user's email
+     * @return the user's principal
+     * @throws UsernameNotFoundException if no user has the given email
+     */
+    public UserDetails getPrincipal(String email) {
+        return principals.get(email, customUserDetailsService::loadUserByUsername);
+    }
+}
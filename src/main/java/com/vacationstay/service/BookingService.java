@@ -1,6 +1,7 @@
 package com.vacationstay.service;
 
 import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.dto.DateRangeDTO;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -43,6 +44,19 @@ public interface BookingService {
      */
     BookingDTO createBooking(BookingDTO bookingDTO);
     
+    /**
+     * Creates several bookings in a single transaction.
+     * <p>
+     * The rows are inserted in JDBC batches. Either all bookings are created or none is,
+     * including when two bookings of the batch overlap each other.
+     * </p>
+     *
+     * @param bookingDTOs the booking data to create
+     * @return the created booking DTOs with assigned IDs, in input order
+     * @throws IllegalStateException if a property is not available for the requested dates
+     */
+    List<BookingDTO> createBookings(List<BookingDTO> bookingDTOs);
+    
     /**
      * Updates an existing booking.
      *
@@ -80,6 +94,10 @@ public interface BookingService {
     
     /**
      * Checks if a property is available for booking during the specified date range.
+     * <p>
+     * A booking occupies its check-in and check-out dates and every date in between;
+     * cancelled bookings occupy no dates.
+     * </p>
      *
      * @param propertyId the ID of the property to check
      * @param startDate the requested check-in date
@@ -98,12 +116,19 @@ public interface BookingService {
     BookingDTO cancelBooking(Long id);
     
     /**
-     * Retrieves all booked dates for a specific property.
-     * This method returns all dates that are already booked for the property,
+     * Retrieves the dates booked for a specific property within a window, as merged ranges.
+     * This method returns the ranges of dates that are already booked for the property,
      * which can be used to disable those dates in the calendar.
+     * <p>
+     * Only bookings touching the window are read. Adjacent and overlapping bookings are
+     * merged, and ranges are clipped to the window, so the result size depends on the
+     * window rather than on the booking history of the property.
+     * </p>
      *
      * @param propertyId the ID of the property
-     * @return a list of booked dates for the specified property
+     * @param from the first date of the window
+     * @param to the date after the last date of the window
+     * @return the booked date ranges in chronological order, each end-exclusive
      */
-    List<LocalDate> getBookedDatesForProperty(Long propertyId);
-}
\ No newline at end of file
+    List<DateRangeDTO> getBookedRanges(Long propertyId, LocalDate from, LocalDate to);
+}
@@ -5,6 +5,7 @@ import com.vacationstay.repository.UserRepository;
 import com.vacationstay.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -32,4 +33,22 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         return UserPrincipal.create(user);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Stores a re-encoded password after a successful login whose stored hash was
+     * produced with a lower cost than currently configured.
+     *
+     * @param userDetails the authenticated user
+     * @param newPassword the password hash with the current settings
+     * @return the user with the new password hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        return UserPrincipal.create(userRepository.save(user));
+    }
+}
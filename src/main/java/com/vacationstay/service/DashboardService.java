@@ -0,0 +1,27 @@
+package com.vacationstay.service;
+
+import com.vacationstay.dto.DashboardView;
+
+/**
+ * Service interface for assembling the user dashboard.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface DashboardService {
+    
+    /**
+     * Loads everything shown on a user's dashboard.
+     * <p>
+     * The user, their bookings and their owned properties are fetched concurrently, each
+     * in its own read-only transaction, so the load takes as long as the slowest of them
+     * rather than their sum.
+     * </p>
+     *
+     * @param userId the ID of the user
+     * @return the dashboard data
+     * @throws jakarta.persistence.EntityNotFoundException if the user is not found
+     */
+    DashboardView loadDashboard(Long userId);
+}
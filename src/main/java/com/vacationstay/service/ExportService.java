@@ -0,0 +1,47 @@
+package com.vacationstay.service;
+
+import com.vacationstay.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting whole tables.
+ * <p>
+ * Rows are streamed from a database cursor straight to the output, so memory use does
+ * not depend on the number of rows exported.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface ExportService {
+    
+    /**
+     * Returns how long a single export request may run before it times out.
+     *
+     * @return the export timeout in milliseconds
+     */
+    long getTimeoutMs();
+    
+    /**
+     * Writes every property to an output stream, in ID order.
+     *
+     * @param format the output format
+     * @param gzip whether to gzip-compress the output
+     * @param output the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    void exportProperties(ExportFormat format, boolean gzip, OutputStream output) throws IOException;
+    
+    /**
+     * Writes every booking to an output stream, in ID order.
+     *
+     * @param format the output format
+     * @param gzip whether to gzip-compress the output
+     * @param output the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    void exportBookings(ExportFormat format, boolean gzip, OutputStream output) throws IOException;
+}
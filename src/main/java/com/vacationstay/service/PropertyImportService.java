@@ -0,0 +1,47 @@
+package com.vacationstay.service;
+
+import com.vacationstay.dto.PropertyImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for importing property listings in bulk.
+ * <p>
+ * Input is read as a stream and records are created in chunks, each in its own
+ * transaction, so memory use does not depend on the size of the import. A chunk that
+ * has been committed stays committed even if a later record fails.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface PropertyImportService {
+    
+    /**
+     * Imports properties from a JSON array of property objects.
+     * <p>
+     * Records that fail to bind or validate are reported and skipped. Malformed JSON
+     * ends the import at that point, since the rest of the array cannot be located.
+     * </p>
+     *
+     * @param input the JSON document
+     * @return the import report
+     * @throws IOException if the input cannot be read
+     */
+    PropertyImportReport importJsonArray(InputStream input) throws IOException;
+    
+    /**
+     * Imports properties from newline-delimited JSON, one property object per line.
+     * <p>
+     * Blank lines are ignored. Lines that are not valid JSON, or that fail to bind or
+     * validate, are reported and skipped.
+     * </p>
+     *
+     * @param input the NDJSON document, UTF-8 encoded
+     * @return the import report
+     * @throws IOException if the input cannot be read
+     */
+    PropertyImportReport importNdjson(InputStream input) throws IOException;
+}
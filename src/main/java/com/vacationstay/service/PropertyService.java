@@ -1,9 +1,16 @@
 package com.vacationstay.service;
 
+import com.vacationstay.dto.PropertyClusterDTO;
 import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyPage;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing property operations.
@@ -34,6 +41,35 @@ public interface PropertyService {
      */
     PropertyDTO getPropertyById(Long id);
     
+    /**
+     * Retrieves the properties with the given IDs in a single query.
+     * <p>
+     * IDs of properties that do not exist are absent from the result.
+     * </p>
+     *
+     * @param ids the IDs of the properties to retrieve
+     * @return the property DTOs keyed by property ID
+     */
+    Map<Long, PropertyDTO> getPropertiesByIds(Collection<Long> ids);
+    
+    /**
+     * Retrieves the properties featured on the home page.
+     * <p>
+     * Pinned properties come first, followed by those chosen by the configured selection
+     * policy. The selection is precomputed and refreshed periodically, so the cost does
+     * not depend on the size of the catalog.
+     * </p>
+     *
+     * @param limit the maximum number of properties to return
+     * @return the featured property DTOs in display order
+     */
+    List<PropertyDTO> getFeaturedProperties(int limit);
+    
+    /**
+     * Recomputes the featured property selection.
+     */
+    void refreshFeaturedProperties();
+    
     /**
      * Creates a new property listing.
      *
@@ -42,6 +78,20 @@ public interface PropertyService {
      */
     PropertyDTO createProperty(PropertyDTO propertyDTO);
     
+    /**
+     * Creates several property listings in a single transaction.
+     * <p>
+     * The rows are inserted in JDBC batches, which is much faster than creating the
+     * properties one by one. Either all properties are created or none is. Only the
+     * assigned IDs are returned, so bulk imports do not convert the stored rows back
+     * to DTOs.
+     * </p>
+     *
+     * @param propertyDTOs the property data to create
+     * @return the IDs assigned to the created properties, in input order
+     */
+    List<Long> createProperties(List<PropertyDTO> propertyDTOs);
+    
     /**
      * Updates an existing property.
      *
@@ -74,6 +124,83 @@ public interface PropertyService {
     List<PropertyDTO> searchProperties(String location, BigDecimal minPrice, BigDecimal maxPrice, 
                                       Integer bedrooms, Integer bathrooms, Integer guests);
     
+    /**
+     * Searches for properties matching the given criteria.
+     *
+     * @param criteria the filter criteria
+     * @return a list of property DTOs matching the criteria, ordered by ID, or from most to
+     *         least relevant when the criteria include a text query
+     * @throws com.vacationstay.exception.ValidationException if the geographic criteria are invalid
+     */
+    List<PropertyDTO> searchProperties(PropertySearchCriteria criteria);
+    
+    /**
+     * Retrieves one page of the properties matching the given criteria, using keyset pagination.
+     * <p>
+     * Properties are ordered by the sort key and then by ID. The cursor returned with a page
+     * resumes the listing strictly after its last property, so pages stay stable while
+     * properties are added or removed and deep pages cost no more than the first one.
+     * </p>
+     *
+     * @param criteria the filter criteria
+     * @param sort the sort order
+     * @param direction the sort direction
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of properties on the page
+     * @return the page of properties and the cursor of the next page
+     * @throws com.vacationstay.exception.ValidationException if the cursor is invalid or was issued for another sort order,
+     *         if the geographic criteria are invalid, or if sorting by relevance without a text
+     *         query or by distance without a search center
+     */
+    PropertyPage getPropertyPage(PropertySearchCriteria criteria, PropertySort sort, Sort.Direction direction,
+                                 String cursor, int limit);
+    
+    /**
+     * Retrieves one page of the properties matching the given criteria, like
+     * {@link #getPropertyPage(PropertySearchCriteria, PropertySort, Sort.Direction, String, int)},
+     * together with facet counts over all the matches: a price histogram, bedroom,
+     * bathroom and guest capacity counts, and amenity counts.
+     *
+     * @param criteria the filter criteria
+     * @param sort the sort order
+     * @param direction the sort direction
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of properties on the page
+     * @return the page of properties, the cursor of the next page and the facet counts
+     * @throws com.vacationstay.exception.ValidationException for the same reasons as
+     *         {@link #getPropertyPage(PropertySearchCriteria, PropertySort, Sort.Direction, String, int)}
+     */
+    PropertyPage getFacetedPropertyPage(PropertySearchCriteria criteria, PropertySort sort, Sort.Direction direction,
+                                        String cursor, int limit);
+    
+    /**
+     * Clusters the properties in a map viewport.
+     * <p>
+     * Properties are grouped by the cells of a grid sized for the zoom level, and each
+     * non-empty cell overlapping the viewport yields one cluster. The number of clusters
+     * is bounded by the number of cells in view, not by the number of properties.
+     * </p>
+     *
+     * @param minLatitude the southern edge of the viewport
+     * @param maxLatitude the northern edge of the viewport
+     * @param minLongitude the western edge of the viewport; greater than the eastern edge
+     *                     if the viewport crosses the antimeridian
+     * @param maxLongitude the eastern edge of the viewport
+     * @param zoom the map zoom level
+     * @return the clusters in the viewport
+     * @throws com.vacationstay.exception.ValidationException if the viewport is incomplete or
+     *         out of range, or if the zoom level is out of range
+     */
+    List<PropertyClusterDTO> getPropertyClusters(Double minLatitude, Double maxLatitude,
+                                                 Double minLongitude, Double maxLongitude, int zoom);
+    
+    /**
+     * Lists the amenities offered by at least one property, for amenity filters.
+     *
+     * @return the amenity names, sorted case-insensitively
+     */
+    List<String> getAmenities();
+    
     /**
      * Retrieves all properties owned by a specific user.
      *
@@ -0,0 +1,87 @@
+package com.vacationstay.service;
+
+import com.vacationstay.dto.PropertyDTO;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Validation rules for property data submitted through the API.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class PropertyValidation {
+
+    /**
+     * The maximum length of the title and location columns.
+     */
+    public static final int MAX_NAME_LENGTH = 255;
+
+    /**
+     * The maximum length of the description column.
+     */
+    public static final int MAX_DESCRIPTION_LENGTH = 2000;
+
+    private PropertyValidation() {
+    }
+
+    /**
+     * Checks the property data required to create a listing.
+     *
+     * @param propertyDTO the property data
+     * @return error messages keyed by field name, empty if the data is valid
+     */
+    public static Map<String, String> validate(PropertyDTO propertyDTO) {
+        Map<String, String> errors = new HashMap<>();
+        
+        if (propertyDTO.getTitle() == null || propertyDTO.getTitle().trim().isEmpty()) {
+            errors.put("title", "Property title is required");
+        } else if (propertyDTO.getTitle().length() > MAX_NAME_LENGTH) {
+            errors.put("title", "Property title cannot exceed " + MAX_NAME_LENGTH + " characters");
+        }
+        
+        if (propertyDTO.getDescription() == null || propertyDTO.getDescription().trim().isEmpty()) {
+            errors.put("description", "Property description is required");
+        } else if (propertyDTO.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            errors.put("description", "Property description cannot exceed " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        
+        if (propertyDTO.getLocation() == null || propertyDTO.getLocation().trim().isEmpty()) {
+            errors.put("location", "Property location is required");
+        } else if (propertyDTO.getLocation().length() > MAX_NAME_LENGTH) {
+            errors.put("location", "Property location cannot exceed " + MAX_NAME_LENGTH + " characters");
+        }
+        
+        if ((propertyDTO.getLatitude() == null) != (propertyDTO.getLongitude() == null)) {
+            errors.put("latitude", "Latitude and longitude must be given together");
+        } else if (propertyDTO.getLatitude() != null) {
+            if (!(Math.abs(propertyDTO.getLatitude()) <= 90)) {
+                errors.put("latitude", "Latitude must be between -90 and 90");
+            }
+            if (!(Math.abs(propertyDTO.getLongitude()) <= 180)) {
+                errors.put("longitude", "Longitude must be between -180 and 180");
+            }
+        }
+        
+        if (propertyDTO.getPrice() == null || propertyDTO.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            errors.put("price", "Property price must be greater than 0");
+        }
+        
+        if (propertyDTO.getMaxGuests() == null || propertyDTO.getMaxGuests() <= 0) {
+            errors.put("maxGuests", "Maximum guests must be greater than 0");
+        }
+        
+        if (propertyDTO.getBedrooms() == null || propertyDTO.getBedrooms() < 0) {
+            errors.put("bedrooms", "Number of bedrooms cannot be negative");
+        }
+        
+        if (propertyDTO.getBathrooms() == null || propertyDTO.getBathrooms() < 0) {
+            errors.put("bathrooms", "Number of bathrooms cannot be negative");
+        }
+        
+        return errors;
+    }
+}
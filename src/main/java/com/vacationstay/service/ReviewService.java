@@ -82,4 +82,15 @@ public interface ReviewService {
      * @return the average rating as a Double, or null if there are no reviews
      */
     Double getAverageRatingForProperty(Long propertyId);
-}
\ No newline at end of file
+
+    /**
+     * Repairs the denormalized rating aggregates stored on properties.
+     * <p>
+     * Aggregates are kept up to date by review writes, but can drift when reviews are
+     * removed outside this service (for example, by cascading user deletes or manual SQL).
+     * </p>
+     *
+     * @return the number of properties whose aggregates were repaired
+     */
+    int reconcileRatingAggregates();
+}
@@ -1,11 +1,19 @@
 package com.vacationstay.service.impl;
 
+import com.vacationstay.availability.AvailabilityCalendar;
+import com.vacationstay.availability.PropertyLocks;
 import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.dto.DateRangeDTO;
 import com.vacationstay.dto.PropertyDTO;
 import com.vacationstay.dto.UserDTO;
+import com.vacationstay.event.BookingChangedEvent;
+import com.vacationstay.event.BookingDeletedEvent;
+import com.vacationstay.model.BookedDate;
 import com.vacationstay.model.Booking;
 import com.vacationstay.model.Property;
 import com.vacationstay.model.User;
+import com.vacationstay.repository.BookedDateRepository;
+import com.vacationstay.repository.BookingDateRange;
 import com.vacationstay.repository.BookingRepository;
 import com.vacationstay.repository.PropertyRepository;
 import com.vacationstay.repository.UserRepository;
@@ -13,29 +21,41 @@ import com.vacationstay.service.BookingService;
 import com.vacationstay.service.PropertyService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String CANCELLED = "cancelled";
+    private static final String NOT_AVAILABLE_MESSAGE = "Property is not available for the selected dates";
+
     private final BookingRepository bookingRepository;
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
     private final PropertyService propertyService;
+    private final AvailabilityCalendar availabilityCalendar;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookedDateRepository bookedDateRepository;
+    private final PropertyLocks propertyLocks;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingDTO> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(bookingRepository.findAll());
     }
 
     @Override
@@ -47,81 +67,115 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    @Transactional
     public BookingDTO createBooking(BookingDTO bookingDTO) {
-        // Check if property is available for the requested dates
-        if (!isPropertyAvailable(bookingDTO.getPropertyId(), bookingDTO.getStartDate(), bookingDTO.getEndDate())) {
-            throw new IllegalStateException("Property is not available for the selected dates");
-        }
-        
-        Booking booking = convertToEntity(bookingDTO);
-        Booking savedBooking = bookingRepository.save(booking);
-        return convertToDTO(savedBooking);
+        // Admissions are serialized per property, and the transaction commits before the lock is released
+        return propertyLocks.withLock(bookingDTO.getPropertyId(), () -> transactionTemplate.execute(status -> {
+            // Check if property is available for the requested dates
+            if (!isPropertyAvailable(bookingDTO.getPropertyId(), bookingDTO.getStartDate(), bookingDTO.getEndDate())) {
+                throw new IllegalStateException(NOT_AVAILABLE_MESSAGE);
+            }
+            
+            Booking booking = convertToEntity(bookingDTO);
+            Booking savedBooking = bookingRepository.save(booking);
+            reserveDates(savedBooking);
+            eventPublisher.publishEvent(new BookingChangedEvent(savedBooking));
+            return convertToDTO(savedBooking);
+        }));
+    }
+
+    @Override
+    public List<BookingDTO> createBookings(List<BookingDTO> bookingDTOs) {
+        Set<Long> propertyIds = bookingDTOs.stream().map(BookingDTO::getPropertyId).collect(Collectors.toSet());
+        Set<Long> userIds = bookingDTOs.stream().map(BookingDTO::getUserId).collect(Collectors.toSet());
+        return propertyLocks.withLocks(propertyIds, () -> transactionTemplate.execute(status -> {
+            Map<Long, Property> properties = propertyRepository.findAllById(propertyIds).stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+            Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            
+            List<Booking> bookings = new ArrayList<>(bookingDTOs.size());
+            for (BookingDTO bookingDTO : bookingDTOs) {
+                if (!isPropertyAvailable(bookingDTO.getPropertyId(), bookingDTO.getStartDate(), bookingDTO.getEndDate())) {
+                    throw new IllegalStateException(NOT_AVAILABLE_MESSAGE);
+                }
+                bookings.add(convertToEntity(bookingDTO, properties, users));
+            }
+            
+            // Overlaps between bookings of the batch are rejected by the booked dates primary key
+            List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+            reserveDates(savedBookings);
+            savedBookings.forEach(booking -> eventPublisher.publishEvent(new BookingChangedEvent(booking)));
+            return convertToDTOs(savedBookings);
+        }));
     }
 
     @Override
-    @Transactional
     public BookingDTO updateBooking(Long id, BookingDTO bookingDTO) {
-        Booking existingBooking = bookingRepository.findById(id)
+        Long propertyId = bookingRepository.findPropertyIdById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
         
-        // Check if dates are being updated and if property is available
-        if (!existingBooking.getStartDate().equals(bookingDTO.getStartDate()) || 
-            !existingBooking.getEndDate().equals(bookingDTO.getEndDate())) {
+        return propertyLocks.withLock(propertyId, () -> transactionTemplate.execute(status -> {
+            Booking existingBooking = bookingRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
             
-            // Exclude current booking from availability check
-            List<Booking> overlappingBookings = bookingRepository.findOverlappingBookings(
-                    bookingDTO.getPropertyId(), 
-                    bookingDTO.getStartDate(), 
-                    bookingDTO.getEndDate());
+            // Check if dates are being updated and if property is available
+            boolean datesChanged = !existingBooking.getStartDate().equals(bookingDTO.getStartDate()) || 
+                    !existingBooking.getEndDate().equals(bookingDTO.getEndDate());
+            if (datesChanged) {
+                // Exclude current booking from availability check
+                boolean isAvailable = availabilityCalendar.isAvailable(
+                        propertyId, 
+                        bookingDTO.getStartDate(), 
+                        bookingDTO.getEndDate(),
+                        id);
+                
+                if (!isAvailable) {
+                    throw new IllegalStateException(NOT_AVAILABLE_MESSAGE);
+                }
+            }
+            boolean activityChanged = isActive(existingBooking) != !CANCELLED.equals(bookingDTO.getStatus());
             
-            boolean isAvailable = overlappingBookings.stream()
-                    .allMatch(booking -> booking.getId().equals(id));
+            existingBooking.setStartDate(bookingDTO.getStartDate());
+            existingBooking.setEndDate(bookingDTO.getEndDate());
+            existingBooking.setTotalPrice(bookingDTO.getTotalPrice());
+            existingBooking.setStatus(bookingDTO.getStatus());
             
-            if (!isAvailable) {
-                throw new IllegalStateException("Property is not available for the selected dates");
+            Booking updatedBooking = bookingRepository.save(existingBooking);
+            if (datesChanged || activityChanged) {
+                bookedDateRepository.deleteByBookingId(id);
+                reserveDates(updatedBooking);
             }
-        }
-        
-        existingBooking.setStartDate(bookingDTO.getStartDate());
-        existingBooking.setEndDate(bookingDTO.getEndDate());
-        existingBooking.setTotalPrice(bookingDTO.getTotalPrice());
-        existingBooking.setStatus(bookingDTO.getStatus());
-        
-        Booking updatedBooking = bookingRepository.save(existingBooking);
-        return convertToDTO(updatedBooking);
+            eventPublisher.publishEvent(new BookingChangedEvent(updatedBooking));
+            return convertToDTO(updatedBooking);
+        }));
     }
 
     @Override
     @Transactional
     public void deleteBooking(Long id) {
-        if (!bookingRepository.existsById(id)) {
-            throw new EntityNotFoundException("Booking not found with id: " + id);
-        }
-        bookingRepository.deleteById(id);
+        Booking booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
+        bookedDateRepository.deleteByBookingId(id);
+        bookingRepository.delete(booking);
+        eventPublisher.publishEvent(new BookingDeletedEvent(id, booking.getProperty().getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingDTO> getBookingsByUser(Long userId) {
-        return bookingRepository.findByUserId(userId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(bookingRepository.findByUserId(userId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingDTO> getBookingsByProperty(Long propertyId) {
-        return bookingRepository.findByPropertyId(propertyId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(bookingRepository.findByPropertyId(propertyId));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean isPropertyAvailable(Long propertyId, LocalDate startDate, LocalDate endDate) {
-        List<Booking> overlappingBookings = bookingRepository.findOverlappingBookings(propertyId, startDate, endDate);
-        return overlappingBookings.isEmpty();
+        // Answered from the in-memory calendar; only cold properties and out-of-horizon ranges hit the database
+        return availabilityCalendar.isAvailable(propertyId, startDate, endDate);
     }
 
     @Override
@@ -130,32 +184,87 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
         
-        booking.setStatus("cancelled");
+        booking.setStatus(CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
+        bookedDateRepository.deleteByBookingId(id);
+        eventPublisher.publishEvent(new BookingChangedEvent(updatedBooking));
         return convertToDTO(updatedBooking);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LocalDate> getBookedDatesForProperty(Long propertyId) {
-        List<Booking> bookings = bookingRepository.findByPropertyId(propertyId);
-        List<LocalDate> bookedDates = new ArrayList<>();
+    public List<DateRangeDTO> getBookedRanges(Long propertyId, LocalDate from, LocalDate to) {
+        List<DateRangeDTO> ranges = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return ranges;
+        }
         
-        for (Booking booking : bookings) {
-            // Only consider confirmed bookings (not cancelled)
-            if (!"cancelled".equals(booking.getStatus())) {
-                LocalDate currentDate = booking.getStartDate();
-                while (!currentDate.isAfter(booking.getEndDate())) {
-                    bookedDates.add(currentDate);
-                    currentDate = currentDate.plusDays(1);
+        // Bookings come ordered by check-in date, so each one either extends the last range or starts a new one
+        DateRangeDTO current = null;
+        for (BookingDateRange booking : bookingRepository.findActiveDateRanges(propertyId, from, to.minusDays(1))) {
+            LocalDate start = booking.getStartDate().isBefore(from) ? from : booking.getStartDate();
+            LocalDate end = booking.getEndDate().plusDays(1).isAfter(to) ? to : booking.getEndDate().plusDays(1);
+            if (current != null && !start.isAfter(current.getEnd())) {
+                if (end.isAfter(current.getEnd())) {
+                    current.setEnd(end);
                 }
+            } else {
+                current = new DateRangeDTO(start, end);
+                ranges.add(current);
             }
         }
         
-        return bookedDates;
+        return ranges;
+    }
+
+    private void reserveDates(Booking booking) {
+        reserveDates(List.of(booking));
+    }
+
+    /**
+     * Holds every date of the active bookings in the booked dates table.
+     * The table's primary key rejects dates already held by another booking.
+     */
+    private void reserveDates(List<Booking> bookings) {
+        List<BookedDate> dates = bookings.stream()
+                .filter(BookingServiceImpl::isActive)
+                .flatMap(booking -> booking.getStartDate().datesUntil(booking.getEndDate().plusDays(1))
+                        .map(date -> new BookedDate(booking, date)))
+                .collect(Collectors.toList());
+        if (dates.isEmpty()) {
+            return;
+        }
+        try {
+            bookedDateRepository.saveAllAndFlush(dates);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(NOT_AVAILABLE_MESSAGE, e);
+        }
+    }
+
+    private static boolean isActive(Booking booking) {
+        return !CANCELLED.equals(booking.getStatus());
+    }
+
+    /**
+     * Converts bookings to DTOs, loading all of their properties in a single query.
+     * The bookings are expected to have their users fetched already.
+     */
+    private List<BookingDTO> convertToDTOs(List<Booking> bookings) {
+        // Reading the ID of a lazy property proxy does not initialize it
+        Set<Long> propertyIds = bookings.stream()
+                .map(booking -> booking.getProperty().getId())
+                .collect(Collectors.toSet());
+        Map<Long, PropertyDTO> properties = propertyService.getPropertiesByIds(propertyIds);
+        return bookings.stream()
+                .map(booking -> convertToDTO(booking, properties.get(booking.getProperty().getId())))
+                .collect(Collectors.toList());
     }
 
     private BookingDTO convertToDTO(Booking booking) {
+        return convertToDTO(booking, propertyService.getPropertyById(booking.getProperty().getId()));
+    }
+
+    private BookingDTO convertToDTO(Booking booking, PropertyDTO propertyDTO) {
         BookingDTO dto = new BookingDTO();
         dto.setId(booking.getId());
         dto.setPropertyId(booking.getProperty().getId());
@@ -168,7 +277,6 @@ public class BookingServiceImpl implements BookingService {
         dto.setUpdatedAt(booking.getUpdatedAt());
         
         // Include property details
-        PropertyDTO propertyDTO = propertyService.getPropertyById(booking.getProperty().getId());
         dto.setProperty(propertyDTO);
         
         // Include basic user info
@@ -182,14 +290,31 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private Booking convertToEntity(BookingDTO dto) {
-        Booking booking = new Booking();
-        
         Property property = propertyRepository.findById(dto.getPropertyId())
                 .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + dto.getPropertyId()));
         
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + dto.getUserId()));
         
+        return convertToEntity(dto, property, user);
+    }
+
+    private Booking convertToEntity(BookingDTO dto, Map<Long, Property> properties, Map<Long, User> users) {
+        Property property = properties.get(dto.getPropertyId());
+        if (property == null) {
+            throw new EntityNotFoundException("Property not found with id: " + dto.getPropertyId());
+        }
+        
+        User user = users.get(dto.getUserId());
+        if (user == null) {
+            throw new EntityNotFoundException("User not found with id: " + dto.getUserId());
+        }
+        
+        return convertToEntity(dto, property, user);
+    }
+
+    private Booking convertToEntity(BookingDTO dto, Property property, User user) {
+        Booking booking = new Booking();
         booking.setProperty(property);
         booking.setUser(user);
         booking.setStartDate(dto.getStartDate());
@@ -0,0 +1,144 @@
+package com.vacationstay.service.impl;
+
+import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.dto.DashboardView;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.UserDTO;
+import com.vacationstay.service.BookingService;
+import com.vacationstay.service.DashboardService;
+import com.vacationstay.service.PropertyService;
+import com.vacationstay.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link DashboardService} interface.
+ * <p>
+ * Each branch runs on a dedicated executor and calls a transactional service method, so
+ * it gets its own read-only transaction and connection. The pool and its queue are
+ * bounded so a burst of dashboard requests cannot take every database connection; when
+ * both are full, the branch runs on the request thread and an overloaded dashboard slows
+ * down to sequential loading instead of failing. When a branch fails or the dashboard
+ * times out, the other branches are cancelled and those still running are interrupted,
+ * so they give their connections back instead of running to completion.
+ * </p>
+ * <p>
+ * Branch durations are recorded in the {@code dashboard.load} timer tagged with the branch
+ * name, and the pool is published as {@code executor.*} meters tagged
+ * {@code name=dashboardExecutor}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService, DisposableBean {
+
+    private static final String EXECUTOR_NAME = "dashboardExecutor";
+
+    private final UserService userService;
+    private final BookingService bookingService;
+    private final PropertyService propertyService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer userTimer;
+    private final Timer bookingsTimer;
+    private final Timer propertiesTimer;
+
+    public DashboardServiceImpl(UserService userService,
+                                BookingService bookingService,
+                                PropertyService propertyService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.dashboard.executor.threads:8}") int threads,
+                                @Value("${app.dashboard.executor.queue-capacity:64}") int queueCapacity,
+                                @Value("${app.dashboard.timeout-ms:10000}") long timeoutMs) {
+        this.userService = userService;
+        this.bookingService = bookingService;
+        this.propertyService = propertyService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("dashboard-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.timeoutMs = timeoutMs;
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.userTimer = branchTimer(meterRegistry, "user");
+        this.bookingsTimer = branchTimer(meterRegistry, "bookings");
+        this.propertiesTimer = branchTimer(meterRegistry, "properties");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DashboardView loadDashboard(Long userId) {
+        Future<UserDTO> user = load(userTimer, () -> userService.getUserById(userId));
+        Future<List<BookingDTO>> bookings = load(bookingsTimer, () -> bookingService.getBookingsByUser(userId));
+        Future<List<PropertyDTO>> properties =
+                load(propertiesTimer, () -> propertyService.getPropertiesByOwner(userId.toString()));
+        List<Future<?>> branches = List.of(user, bookings, properties);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            return new DashboardView(await(user, deadline), await(bookings, deadline), await(properties, deadline));
+        } catch (ExecutionException e) {
+            cancel(branches);
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            cancel(branches);
+            throw new IllegalStateException("Timed out loading the dashboard of user " + userId, e);
+        } catch (InterruptedException e) {
+            cancel(branches);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the dashboard of user " + userId, e);
+        }
+    }
+
+    /**
+     * Stops the loader threads.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> load(Timer timer, Supplier<T> branch) {
+        return executor.submit(() -> timer.record(branch));
+    }
+
+    private static <T> T await(Future<T> branch, long deadline)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        return branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private static void cancel(List<Future<?>> branches) {
+        branches.forEach(branch -> branch.cancel(true));
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("Failed to load the dashboard", cause);
+    }
+
+    private static Timer branchTimer(MeterRegistry meterRegistry, String branch) {
+        return Timer.builder("dashboard.load")
+                .description("Time taken to load one branch of the dashboard")
+                .tag("branch", branch)
+                .register(meterRegistry);
+    }
+}
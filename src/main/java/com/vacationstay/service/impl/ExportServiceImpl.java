@@ -0,0 +1,102 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.dto.ExportFormat;
+import com.vacationstay.repository.BookingExportRow;
+import com.vacationstay.repository.BookingRepository;
+import com.vacationstay.repository.PropertyExportRow;
+import com.vacationstay.repository.PropertyRepository;
+import com.vacationstay.service.ExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExportService} interface.
+ * <p>
+ * Each export reads projection rows through a forward-only cursor inside a read-only
+ * transaction. The rows are never attached to the persistence context, so neither the
+ * session nor the writer grows with the size of the table.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final List<String> PROPERTY_COLUMNS = List.of("id", "title", "description", "location",
+            "latitude", "longitude", "price", "bedrooms", "bathrooms", "maxGuests", "amenities", "images", "ownerId",
+            "averageRating", "ratingCount", "createdAt", "updatedAt");
+    private static final Set<String> PROPERTY_JSON_COLUMNS = Set.of("amenities", "images");
+    private static final List<String> BOOKING_COLUMNS = List.of("id", "propertyId", "userId",
+            "startDate", "endDate", "totalPrice", "status", "createdAt", "updatedAt");
+
+    private final PropertyRepository propertyRepository;
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+
+    public ExportServiceImpl(PropertyRepository propertyRepository,
+                             BookingRepository bookingRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${app.export.timeout-ms:1800000}") long timeoutMs) {
+        this.propertyRepository = propertyRepository;
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProperties(ExportFormat format, boolean gzip, OutputStream output) throws IOException {
+        try (Stream<PropertyExportRow> rows = propertyRepository.streamExportRows();
+             ExportWriter writer = new ExportWriter(format, gzip, output, objectMapper,
+                     PROPERTY_COLUMNS, PROPERTY_JSON_COLUMNS)) {
+            Iterator<PropertyExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PropertyExportRow row = iterator.next();
+                writer.write(row.getId(), row.getTitle(), row.getDescription(), row.getLocation(),
+                        row.getLatitude(), row.getLongitude(), row.getPrice(), row.getBedrooms(), row.getBathrooms(), row.getMaxGuests(),
+                        row.getAmenities(), row.getImages(), row.getOwnerId(),
+                        row.getAverageRating(), row.getRatingCount(), row.getCreatedAt(), row.getUpdatedAt());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookings(ExportFormat format, boolean gzip, OutputStream output) throws IOException {
+        try (Stream<BookingExportRow> rows = bookingRepository.streamExportRows();
+             ExportWriter writer = new ExportWriter(format, gzip, output, objectMapper, BOOKING_COLUMNS, Set.of())) {
+            Iterator<BookingExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                BookingExportRow row = iterator.next();
+                writer.write(row.getId(), row.getPropertyId(), row.getUserId(), row.getStartDate(),
+                        row.getEndDate(), row.getTotalPrice(), row.getStatus(), row.getCreatedAt(), row.getUpdatedAt());
+            }
+        }
+    }
+}
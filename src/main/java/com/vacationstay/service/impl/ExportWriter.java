@@ -0,0 +1,173 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.dto.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes rows of named columns as NDJSON or CSV, optionally gzip-compressed.
+ * <p>
+ * Output is buffered and written as rows arrive; nothing is retained once a row has
+ * been written. Closing the writer flushes it and completes the gzip trailer but leaves
+ * the target stream open.
+ * </p>
+ * <p>
+ * Stored JSON columns are parsed and re-serialized in NDJSON, so a value spanning
+ * several lines cannot break the one-row-per-line framing. Values that are not a JSON
+ * array are written as an empty array, as {@link PropertyAttributeCache} reads them.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class ExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final List<String> columns;
+    private final Set<String> jsonColumns;
+    private final GZIPOutputStream gzip;
+    private final JsonGenerator json;
+    private final Writer csv;
+
+    /**
+     * Opens a writer and, for CSV, writes the header row.
+     *
+     * @param format the output format
+     * @param gzip whether to gzip-compress the output
+     * @param output the target stream
+     * @param objectMapper supplies the JSON factory and serializers for other value types
+     * @param columns the column names, in output order
+     * @param jsonColumns the columns whose values are stored JSON arrays, embedded as arrays in NDJSON
+     * @throws IOException if writing fails
+     */
+    ExportWriter(ExportFormat format, boolean gzip, OutputStream output, ObjectMapper objectMapper,
+                 List<String> columns, Set<String> jsonColumns) throws IOException {
+        this.objectMapper = objectMapper;
+        this.columns = columns;
+        this.jsonColumns = jsonColumns;
+        this.gzip = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+        OutputStream target = gzip ? this.gzip : output;
+        if (format == ExportFormat.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(target)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setPrettyPrinter(new MinimalPrettyPrinter(""));
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writeCsvRow(columns.toArray());
+        }
+    }
+
+    /**
+     * Writes one row.
+     *
+     * @param values the column values, in column order; null values are written as empty
+     * @throws IOException if writing fails
+     */
+    void write(Object... values) throws IOException {
+        if (json != null) {
+            writeJsonRow(values);
+        } else {
+            writeCsvRow(values);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            csv.flush();
+        }
+        if (gzip != null) {
+            gzip.finish();
+            gzip.flush();
+        }
+    }
+
+    private void writeJsonRow(Object[] values) throws IOException {
+        json.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            String column = columns.get(i);
+            Object value = values[i];
+            json.writeFieldName(column);
+            if (value == null) {
+                json.writeNull();
+            } else if (jsonColumns.contains(column)) {
+                json.writeTree(parseArray(value.toString()));
+            } else if (value instanceof String text) {
+                json.writeString(text);
+            } else if (value instanceof Long number) {
+                json.writeNumber(number);
+            } else if (value instanceof Integer number) {
+                json.writeNumber(number);
+            } else if (value instanceof Double number) {
+                json.writeNumber(number);
+            } else if (value instanceof BigDecimal number) {
+                json.writeNumber(number);
+            } else {
+                json.writeObject(value);
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private JsonNode parseArray(String value) {
+        try {
+            JsonNode node = objectMapper.readTree(value);
+            if (node != null && node.isArray()) {
+                return node;
+            }
+        } catch (JsonProcessingException e) {
+            // Malformed stored value, exported as empty
+        }
+        return objectMapper.createArrayNode();
+    }
+
+    private void writeCsvRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(values[i] instanceof BigDecimal number ? number.toPlainString() : values[i].toString());
+            }
+        }
+        csv.write("\r\n");
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        csv.write(value.replace("\"", "\"\""));
+        csv.write('"');
+    }
+}
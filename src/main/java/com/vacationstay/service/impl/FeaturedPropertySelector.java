@@ -0,0 +1,97 @@
+package com.vacationstay.service.impl;
+
+import com.vacationstay.repository.PropertyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains the precomputed list of featured property IDs shown on the home page.
+ * <p>
+ * Manually pinned properties come first, followed by the properties chosen by the
+ * configured policy. The list is computed with a bounded query and replaced atomically
+ * on each refresh, so reading it costs the same regardless of catalog size.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Slf4j
+class FeaturedPropertySelector {
+
+    /**
+     * Policies for choosing featured properties after the pinned ones.
+     */
+    enum Policy {
+        /** Highest average rating first, ties broken by review count. */
+        RATING,
+        /** Most recently listed first. */
+        RECENT,
+        /** Only the pinned properties. */
+        PINNED
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Policy policy;
+    private final List<Long> pinnedIds;
+    private final int capacity;
+
+    private volatile List<Long> featuredIds;
+
+    FeaturedPropertySelector(PropertyRepository propertyRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.featured.policy:RATING}") Policy policy,
+                             @Value("${app.featured.pinned-ids:}") List<Long> pinnedIds,
+                             @Value("${app.featured.capacity:24}") int capacity) {
+        this.propertyRepository = propertyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.policy = policy;
+        this.pinnedIds = List.copyOf(pinnedIds);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the featured property IDs in display order, computing them on first use.
+     * <p>
+     * The list may contain properties deleted since the last refresh; callers skip them.
+     * </p>
+     *
+     * @return the featured property IDs
+     */
+    List<Long> featuredIds() {
+        List<Long> ids = featuredIds;
+        return ids != null ? ids : refresh();
+    }
+
+    /**
+     * Recomputes the featured property IDs.
+     *
+     * @return the new featured property IDs
+     */
+    List<Long> refresh() {
+        Set<Long> ids = new LinkedHashSet<>(pinnedIds);
+        if (ids.size() < capacity && policy != Policy.PINNED) {
+            PageRequest top = PageRequest.of(0, capacity);
+            ids.addAll(transactionTemplate.execute(status -> switch (policy) {
+                case RATING -> propertyRepository.findTopRatedIds(top);
+                case RECENT -> propertyRepository.findMostRecentIds(top);
+                case PINNED -> List.<Long>of();
+            }));
+        }
+        List<Long> refreshed = ids.stream().limit(capacity).toList();
+        featuredIds = refreshed;
+        log.debug("Refreshed {} featured properties using the {} policy", refreshed.size(), policy);
+        return refreshed;
+    }
+}
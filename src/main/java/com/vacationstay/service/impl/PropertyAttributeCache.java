@@ -0,0 +1,138 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vacationstay.event.PropertyDeletedEvent;
+import com.vacationstay.model.Property;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of the parsed amenities and images of properties.
+ * <p>
+ * Both attributes are stored as JSON arrays in text columns. Parsed values are cached
+ * per property together with the {@code updatedAt} timestamp and the JSON text they
+ * were parsed from, and reused as long as both still match, so converting an unchanged
+ * property performs no JSON parsing. The text is compared as well because the
+ * timestamp of a modified property only advances when the change is flushed. Parsed lists are immutable, skip
+ * null and blank elements, and their strings are interned, since the same amenity names recur across many
+ * properties.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+class PropertyAttributeCache {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectReader stringListReader;
+    private final ObjectWriter stringListWriter;
+    private final Cache<Long, ParsedAttributes> parsed;
+
+    PropertyAttributeCache(ObjectMapper objectMapper,
+                           @Value("${app.properties.attribute-cache-size:10000}") long maximumSize) {
+        this.stringListReader = objectMapper.readerFor(STRING_LIST);
+        this.stringListWriter = objectMapper.writerFor(STRING_LIST);
+        this.parsed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the parsed attributes of a property, parsing them only if the property
+     * changed since they were last parsed.
+     *
+     * @param property the property
+     * @return the parsed attributes
+     */
+    ParsedAttributes get(Property property) {
+        LocalDateTime updatedAt = property.getUpdatedAt();
+        if (property.getId() == null || updatedAt == null) {
+            return parse(property);
+        }
+        ParsedAttributes cached = parsed.getIfPresent(property.getId());
+        if (cached != null && cached.isParsedFrom(property)) {
+            return cached;
+        }
+        ParsedAttributes attributes = parse(property);
+        parsed.put(property.getId(), attributes);
+        return attributes;
+    }
+
+    /**
+     * Serializes a list of strings as a JSON array.
+     *
+     * @param values the values to serialize
+     * @return the JSON array
+     */
+    String write(List<String> values) {
+        try {
+            return stringListWriter.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error processing JSON", e);
+        }
+    }
+
+    /**
+     * Drops the parsed attributes of a deleted property.
+     *
+     * @param event the property deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPropertyDeleted(PropertyDeletedEvent event) {
+        parsed.invalidate(event.getPropertyId());
+    }
+
+    private ParsedAttributes parse(Property property) {
+        try {
+            return new ParsedAttributes(property.getUpdatedAt(), property.getAmenities(), property.getImages(),
+                    parseList(property.getAmenities()), parseList(property.getImages()));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new ParsedAttributes(property.getUpdatedAt(), property.getAmenities(), property.getImages(),
+                    List.of(), List.of());
+        }
+    }
+
+    private List<String> parseList(String json) throws JsonProcessingException {
+        List<String> values = stringListReader.readValue(json);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::intern)
+                .toList();
+    }
+
+    /**
+     * Parsed amenities and images of a property.
+     *
+     * @param updatedAt the modification timestamp of the property they were parsed from
+     * @param amenitiesJson the JSON text the amenities were parsed from
+     * @param imagesJson the JSON text the images were parsed from
+     * @param amenities the immutable list of amenities
+     * @param images the immutable list of image URLs
+     */
+    record ParsedAttributes(LocalDateTime updatedAt, String amenitiesJson, String imagesJson,
+                            List<String> amenities, List<String> images) {
+
+        boolean isParsedFrom(Property property) {
+            return Objects.equals(updatedAt, property.getUpdatedAt())
+                    && Objects.equals(amenitiesJson, property.getAmenities())
+                    && Objects.equals(imagesJson, property.getImages());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.vacationstay.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.event.PropertyChangedEvent;
+import com.vacationstay.event.PropertyDeletedEvent;
+import com.vacationstay.event.PropertyRatingChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of property DTOs.
+ * <p>
+ * Entries are bounded by their estimated size in bytes and evicted with Caffeine's
+ * W-TinyLFU policy. Concurrent misses for the same property are coalesced into a single
+ * load. Cached DTOs are never handed out: every read returns a fresh copy, so callers may
+ * modify what they receive without corrupting the cache (the amenity and image lists
+ * are immutable and shared).
+ * </p>
+ * <p>
+ * Entries are invalidated once a property update, deletion or rating change has been
+ * committed. Hit, miss, load and eviction statistics are published as
+ * {@code cache.*} meters tagged {@code cache=propertyDtos}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+class PropertyDtoCache {
+
+    private static final String CACHE_NAME = "propertyDtos";
+
+    private final Cache<Long, PropertyDTO> cache;
+
+    PropertyDtoCache(MeterRegistry meterRegistry,
+                     @Value("${app.properties.dto-cache.max-weight-bytes:33554432}") long maximumWeightBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long id, PropertyDTO property) -> estimateSize(property))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns a copy of a cached property, loading it on a miss.
+     *
+     * @param id the ID of the property
+     * @param loader loads the property; exceptions it throws propagate and nothing is cached
+     * @return a copy of the property DTO
+     */
+    PropertyDTO get(Long id, Function<Long, PropertyDTO> loader) {
+        return copyOf(cache.get(id, loader));
+    }
+
+    /**
+     * Returns copies of cached properties, loading all misses in a single call.
+     *
+     * @param ids the IDs of the properties
+     * @param loader loads the missing properties, keyed by ID; absent IDs are skipped
+     * @return copies of the property DTOs keyed by ID
+     */
+    Map<Long, PropertyDTO> getAll(Collection<Long> ids,
+                                  Function<Set<? extends Long>, Map<Long, PropertyDTO>> loader) {
+        Map<Long, PropertyDTO> result = new HashMap<>();
+        cache.getAll(ids, loader).forEach((id, property) -> result.put(id, copyOf(property)));
+        return result;
+    }
+
+    /**
+     * Drops a property from the cache.
+     *
+     * @param id the ID of the property
+     */
+    void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPropertyChanged(PropertyChangedEvent event) {
+        invalidate(event.getProperty().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPropertyDeleted(PropertyDeletedEvent event) {
+        invalidate(event.getPropertyId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPropertyRatingChanged(PropertyRatingChangedEvent event) {
+        invalidate(event.getPropertyId());
+    }
+
+    private static PropertyDTO copyOf(PropertyDTO property) {
+        return new PropertyDTO(property.getId(), property.getTitle(), property.getDescription(),
+                property.getLocation(), property.getLatitude(), property.getLongitude(), property.getPrice(), property.getBedrooms(), property.getBathrooms(),
+                property.getMaxGuests(), property.getAmenities(), property.getImages(), property.getOwnerId(),
+                property.getAverageRating(), property.getCreatedAt(), property.getUpdatedAt());
+    }
+
+    /**
+     * Roughly estimates the heap footprint of a property DTO in bytes.
+     */
+    private static int estimateSize(PropertyDTO property) {
+        long size = 256
+                + 2L * (length(property.getTitle()) + length(property.getDescription())
+                + length(property.getLocation()) + length(property.getOwnerId()))
+                + estimateSize(property.getAmenities()) + estimateSize(property.getImages());
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    private static long estimateSize(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long size = 16L + 8L * values.size();
+        for (String value : values) {
+            size += 40 + 2L * length(value);
+        }
+        return size;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
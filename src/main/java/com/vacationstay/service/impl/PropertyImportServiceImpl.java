@@ -0,0 +1,199 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyImportError;
+import com.vacationstay.dto.PropertyImportReport;
+import com.vacationstay.exception.ValidationException;
+import com.vacationstay.service.PropertyImportService;
+import com.vacationstay.service.PropertyService;
+import com.vacationstay.service.PropertyValidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link PropertyImportService} interface.
+ * <p>
+ * Records are read one at a time with Jackson's streaming parser, bound and validated,
+ * and collected into chunks of {@code app.properties.import.chunk-size} properties. Each
+ * full chunk is created with {@link PropertyService#createProperties(List)} in its own
+ * transaction and then released, so at most one chunk and the capped error list are held
+ * in memory. If the database rejects a chunk, its properties are retried one by one so
+ * only the failing ones are reported.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+@Slf4j
+public class PropertyImportServiceImpl implements PropertyImportService {
+
+    private final PropertyService propertyService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public PropertyImportServiceImpl(PropertyService propertyService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.properties.import.chunk-size:500}") int chunkSize,
+                                     @Value("${app.properties.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.propertyService = propertyService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertyImportReport importJsonArray(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Request body must be a JSON array of properties");
+            }
+            long record = 0;
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    long line = parser.currentTokenLocation().getLineNr();
+                    // Only the current element is materialized
+                    JsonNode node = objectMapper.readTree(parser);
+                    run.add(++record, line, node);
+                }
+            } catch (JsonParseException e) {
+                JsonLocation location = e.getLocation();
+                run.reject(record + 1, location != null ? location.getLineNr() : -1,
+                        "Malformed JSON, import stopped: " + e.getOriginalMessage(), null);
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertyImportReport importNdjson(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long line = 0;
+        long record = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            record++;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                run.reject(record, line, "Malformed JSON: " + e.getOriginalMessage(), null);
+                continue;
+            }
+            run.add(record, line, node);
+        }
+        return run.finish();
+    }
+
+    /**
+     * State of one import: the chunk being filled and the running totals.
+     */
+    private class ImportRun {
+
+        private List<PropertyDTO> chunk = new ArrayList<>(chunkSize);
+        private List<long[]> chunkPositions = new ArrayList<>(chunkSize);
+        private final List<PropertyImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void add(long record, long line, JsonNode node) {
+            PropertyDTO property;
+            try {
+                property = node.isObject() ? objectMapper.treeToValue(node, PropertyDTO.class) : null;
+            } catch (JsonProcessingException e) {
+                reject(record, line, "Invalid property: " + e.getOriginalMessage(), null);
+                return;
+            }
+            if (property == null) {
+                reject(record, line, "Record must be a JSON object", null);
+                return;
+            }
+            Map<String, String> fieldErrors = PropertyValidation.validate(property);
+            if (!fieldErrors.isEmpty()) {
+                reject(record, line, "Property validation failed", fieldErrors);
+                return;
+            }
+            
+            chunk.add(property);
+            chunkPositions.add(new long[] {record, line});
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long record, long line, String message, Map<String, String> fieldErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new PropertyImportError(record, line, message, fieldErrors));
+            }
+        }
+
+        PropertyImportReport finish() {
+            flush();
+            log.info("Property import finished: {} imported, {} rejected", imported, failed);
+            return new PropertyImportReport(imported, failed, errors, failed > errors.size());
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                propertyService.createProperties(chunk);
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("Could not store {} imported properties, retrying one by one: {}", chunk.size(), e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    store(chunk.get(i), chunkPositions.get(i));
+                }
+            }
+            chunk = new ArrayList<>(chunkSize);
+            chunkPositions = new ArrayList<>(chunkSize);
+        }
+
+        /**
+         * Stores one property of a chunk the database rejected, so only the properties
+         * that fail on their own are reported.
+         */
+        private void store(PropertyDTO property, long[] position) {
+            try {
+                propertyService.createProperties(List.of(property));
+                imported++;
+            } catch (RuntimeException e) {
+                log.warn("Could not store imported property at record {}: {}", position[0], e.getMessage());
+                reject(position[0], position[1], "Could not store property", null);
+            }
+        }
+    }
+}
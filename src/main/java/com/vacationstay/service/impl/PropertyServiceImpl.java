@@ -1,21 +1,46 @@
 package com.vacationstay.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.dto.PropertyClusterDTO;
+import com.vacationstay.dto.PropertyCursor;
 import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyFacets;
+import com.vacationstay.dto.PropertyPage;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import com.vacationstay.event.PropertyChangedEvent;
+import com.vacationstay.event.PropertyDeletedEvent;
+import com.vacationstay.exception.ValidationException;
 import com.vacationstay.model.Property;
 import com.vacationstay.repository.PropertyRepository;
-import com.vacationstay.repository.ReviewRepository;
+import com.vacationstay.search.AmenityDictionary;
+import com.vacationstay.search.FacetCounter;
+import com.vacationstay.search.FacetedPage;
+import com.vacationstay.search.GeoDistance;
+import com.vacationstay.search.PropertyClusterIndex;
+import com.vacationstay.search.PropertySearchIndex;
+import com.vacationstay.search.PropertyTextIndex;
+import com.vacationstay.search.TextSearchResult;
 import com.vacationstay.service.PropertyService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,8 +58,13 @@ import java.util.stream.Collectors;
 public class PropertyServiceImpl implements PropertyService {
 
     private final PropertyRepository propertyRepository;
-    private final ReviewRepository reviewRepository;
-    private final ObjectMapper objectMapper;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertyTextIndex propertyTextIndex;
+    private final PropertyClusterIndex propertyClusterIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PropertyAttributeCache attributeCache;
+    private final PropertyDtoCache propertyDtoCache;
+    private final FeaturedPropertySelector featuredPropertySelector;
 
     /**
      * {@inheritDoc}
@@ -49,13 +79,57 @@ public class PropertyServiceImpl implements PropertyService {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Served from the {@link PropertyDtoCache}; only misses read the database.
+     * </p>
      */
     @Override
-    @Transactional(readOnly = true)
     public PropertyDTO getPropertyById(Long id) {
-        Property property = propertyRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
-        return convertToDTO(property);
+        return propertyDtoCache.get(id, key -> convertToDTO(propertyRepository.findById(key)
+                .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + key))));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Served from the {@link PropertyDtoCache}; all misses are read in one query.
+     * </p>
+     */
+    @Override
+    public Map<Long, PropertyDTO> getPropertiesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return propertyDtoCache.getAll(ids, missing -> propertyRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Property::getId, this::convertToDTO)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Properties deleted since the last refresh are skipped.
+     * </p>
+     */
+    @Override
+    public List<PropertyDTO> getFeaturedProperties(int limit) {
+        List<Long> candidates = featuredPropertySelector.featuredIds();
+        List<PropertyDTO> featured = new ArrayList<>(Math.min(limit, candidates.size()));
+        int from = 0;
+        while (featured.size() < limit && from < candidates.size()) {
+            List<Long> batch = candidates.subList(from, Math.min(candidates.size(), from + limit - featured.size()));
+            Map<Long, PropertyDTO> properties = getPropertiesByIds(batch);
+            batch.stream().map(properties::get).filter(Objects::nonNull).forEach(featured::add);
+            from += batch.size();
+        }
+        return featured;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshFeaturedProperties() {
+        featuredPropertySelector.refresh();
     }
 
     /**
@@ -66,9 +140,25 @@ public class PropertyServiceImpl implements PropertyService {
     public PropertyDTO createProperty(PropertyDTO propertyDTO) {
         Property property = convertToEntity(propertyDTO);
         Property savedProperty = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(savedProperty));
         return convertToDTO(savedProperty);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Long> createProperties(List<PropertyDTO> propertyDTOs) {
+        List<Property> savedProperties = propertyRepository.saveAll(propertyDTOs.stream()
+                .map(this::convertToEntity)
+                .collect(Collectors.toList()));
+        savedProperties.forEach(property -> eventPublisher.publishEvent(new PropertyChangedEvent(property)));
+        return savedProperties.stream()
+                .map(Property::getId)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -81,19 +171,18 @@ public class PropertyServiceImpl implements PropertyService {
         existingProperty.setTitle(propertyDTO.getTitle());
         existingProperty.setDescription(propertyDTO.getDescription());
         existingProperty.setLocation(propertyDTO.getLocation());
+        existingProperty.setLatitude(propertyDTO.getLatitude());
+        existingProperty.setLongitude(propertyDTO.getLongitude());
         existingProperty.setPrice(propertyDTO.getPrice());
         existingProperty.setBedrooms(propertyDTO.getBedrooms());
         existingProperty.setBathrooms(propertyDTO.getBathrooms());
         existingProperty.setMaxGuests(propertyDTO.getMaxGuests());
         
-        try {
-            existingProperty.setAmenities(objectMapper.writeValueAsString(propertyDTO.getAmenities()));
-            existingProperty.setImages(objectMapper.writeValueAsString(propertyDTO.getImages()));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing JSON", e);
-        }
+        existingProperty.setAmenities(attributeCache.write(propertyDTO.getAmenities()));
+        existingProperty.setImages(attributeCache.write(propertyDTO.getImages()));
         
         Property updatedProperty = propertyRepository.save(existingProperty);
+        eventPublisher.publishEvent(new PropertyChangedEvent(updatedProperty));
         return convertToDTO(updatedProperty);
     }
 
@@ -107,6 +196,7 @@ public class PropertyServiceImpl implements PropertyService {
             throw new EntityNotFoundException("Property not found with id: " + id);
         }
         propertyRepository.deleteById(id);
+        eventPublisher.publishEvent(new PropertyDeletedEvent(id));
     }
 
     /**
@@ -116,9 +206,197 @@ public class PropertyServiceImpl implements PropertyService {
     @Transactional(readOnly = true)
     public List<PropertyDTO> searchProperties(String location, BigDecimal minPrice, BigDecimal maxPrice, 
                                              Integer bedrooms, Integer bathrooms, Integer guests) {
-        return propertyRepository.findByFilters(location, minPrice, maxPrice, bedrooms, bathrooms, guests)
-                .stream()
-                .map(this::convertToDTO)
+        return searchProperties(PropertySearchCriteria.builder()
+                .location(location).minPrice(minPrice).maxPrice(maxPrice)
+                .bedrooms(bedrooms).bathrooms(bathrooms).guests(guests)
+                .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Matching IDs come from the in-memory {@link PropertySearchIndex} and, for text
+     * queries, {@link PropertyTextIndex}; only the matching rows are then loaded. Until
+     * the indexes are ready, the database filter query is used and its results are
+     * matched against the text query in memory.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyDTO> searchProperties(PropertySearchCriteria criteria) {
+        criteria.validate();
+        if (!indexesReady(criteria)) {
+            List<PropertyDTO> matches = findMatchesInDatabase(criteria);
+            if (!criteria.hasText()) {
+                return matches;
+            }
+            TextSearchResult textMatches = PropertyTextIndex.rank(criteria.getText(), criteria.getLocale(), matches);
+            return matches.stream()
+                    .filter(property -> textMatches.contains(property.getId()))
+                    .sorted(pageOrder(sortKeyOf(PropertySort.RELEVANCE, criteria, textMatches), Sort.Direction.DESC))
+                    .collect(Collectors.toList());
+        }
+        if (!criteria.hasText()) {
+            return findAllByIdInOrder(Arrays.stream(propertySearchIndex.search(criteria)).boxed().toList());
+        }
+        TextSearchResult textMatches = propertyTextIndex.search(criteria.getText(), criteria.getLocale());
+        long[] ids = propertySearchIndex.search(criteria, textMatches);
+        return findAllByIdInOrder(Arrays.stream(textMatches.idsByRelevance())
+                .filter(id -> Arrays.binarySearch(ids, id) >= 0)
+                .boxed()
+                .toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unfiltered listings sorted by an attribute scroll through the database with a keyset
+     * predicate on the (sort key, ID) index. Other listings select the page from the
+     * in-memory {@link PropertySearchIndex}, restricted to the matches of
+     * {@link PropertyTextIndex} for text queries, falling back to sorting the database
+     * matches until the indexes are ready.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyPage getPropertyPage(PropertySearchCriteria criteria, PropertySort sort, Sort.Direction direction,
+                                        String cursor, int limit) {
+        return findPage(criteria, sort, direction, cursor, limit, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Facets are counted by the {@link PropertySearchIndex} in the same pass over the
+     * matches that selects the page, so unfiltered listings use the index as well. Until
+     * the indexes are ready, the database matches are counted instead.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyPage getFacetedPropertyPage(PropertySearchCriteria criteria, PropertySort sort,
+                                               Sort.Direction direction, String cursor, int limit) {
+        return findPage(criteria, sort, direction, cursor, limit, true);
+    }
+
+    private PropertyPage findPage(PropertySearchCriteria criteria, PropertySort sort, Sort.Direction direction,
+                                  String cursor, int limit, boolean withFacets) {
+        criteria.validate();
+        if (sort == PropertySort.RELEVANCE && !criteria.hasText()) {
+            throw new ValidationException("Sorting by relevance requires a text query");
+        }
+        if (sort == PropertySort.DISTANCE && !criteria.hasCenter()) {
+            throw new ValidationException("Sorting by distance requires a latitude and longitude");
+        }
+        PropertyCursor after = cursor != null && !cursor.isBlank()
+                ? PropertyCursor.decode(cursor, sort, direction) : null;
+
+        List<PropertyDTO> items;
+        boolean hasNext;
+        PropertyFacets facets = null;
+        Function<PropertyDTO, Object> keyOf;
+        if (!withFacets && !criteria.hasFilters() && sort.getAttribute() != null) {
+            Window<Property> window = propertyRepository.findAllBy(scrollPosition(sort, after),
+                    Sort.by(direction, sort.getAttribute(), "id"), Limit.of(limit));
+            items = window.stream().map(this::convertToDTO).collect(Collectors.toList());
+            hasNext = window.hasNext();
+            keyOf = sortKeyOf(sort, criteria, null);
+        } else if (indexesReady(criteria)) {
+            TextSearchResult textMatches = criteria.hasText()
+                    ? propertyTextIndex.search(criteria.getText(), criteria.getLocale()) : null;
+            long[] ids;
+            if (withFacets) {
+                FacetedPage page = propertySearchIndex.searchFacetedPage(criteria, textMatches, sort, direction,
+                        after, limit + 1);
+                ids = page.ids();
+                facets = page.facets();
+            } else {
+                ids = propertySearchIndex.searchPage(criteria, textMatches, sort, direction, after, limit + 1);
+            }
+            hasNext = ids.length > limit;
+            items = findAllByIdInOrder(Arrays.stream(ids).limit(limit).boxed().toList());
+            keyOf = sortKeyOf(sort, criteria, textMatches);
+        } else {
+            List<PropertyDTO> candidates = findMatchesInDatabase(criteria);
+            TextSearchResult textMatches = criteria.hasText()
+                    ? PropertyTextIndex.rank(criteria.getText(), criteria.getLocale(), candidates) : null;
+            Function<PropertyDTO, Object> pageKeyOf = sortKeyOf(sort, criteria, textMatches);
+            List<PropertyDTO> allMatches = candidates.stream()
+                    .filter(property -> textMatches == null || textMatches.contains(property.getId()))
+                    .collect(Collectors.toList());
+            if (withFacets) {
+                facets = FacetCounter.count(allMatches);
+            }
+            List<PropertyDTO> matches = allMatches.stream()
+                    .filter(property -> after == null || isAfter(property, pageKeyOf, direction, after))
+                    .sorted(pageOrder(pageKeyOf, direction))
+                    .limit(limit + 1L)
+                    .collect(Collectors.toList());
+            hasNext = matches.size() > limit;
+            items = hasNext ? matches.subList(0, limit) : matches;
+            keyOf = pageKeyOf;
+        }
+
+        PropertyDTO last = !items.isEmpty() ? items.get(items.size() - 1) : null;
+        String nextCursor = hasNext && last != null
+                ? new PropertyCursor(sort, direction, keyOf.apply(last), last.getId()).encode() : null;
+        return new PropertyPage(items, nextCursor, facets);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Clusters are read from the precomputed grid of {@link PropertyClusterIndex}. Until it
+     * is ready, the properties inside the viewport are loaded from the database and
+     * clustered on the fly.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyClusterDTO> getPropertyClusters(Double minLatitude, Double maxLatitude,
+                                                        Double minLongitude, Double maxLongitude, int zoom) {
+        PropertySearchCriteria viewport = PropertySearchCriteria.builder()
+                .minLatitude(minLatitude).maxLatitude(maxLatitude)
+                .minLongitude(minLongitude).maxLongitude(maxLongitude)
+                .build();
+        if (!viewport.hasBoundingBox()) {
+            throw new ValidationException("Clustering requires a bounding box");
+        }
+        viewport.validate();
+        if (zoom < 0 || zoom > PropertyClusterIndex.MAX_ZOOM) {
+            throw new ValidationException("Zoom must be between 0 and " + PropertyClusterIndex.MAX_ZOOM);
+        }
+
+        if (propertyClusterIndex.isReady()) {
+            return propertyClusterIndex.clusters(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+        }
+        return PropertyClusterIndex.cluster(findMatchesInDatabase(viewport),
+                minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Names are read from the amenity dictionary of {@link PropertySearchIndex}, or collected
+     * from every property until the index is ready.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> getAmenities() {
+        if (propertySearchIndex.isReady()) {
+            return propertySearchIndex.amenityNames();
+        }
+        Map<String, String> names = new LinkedHashMap<>();
+        for (PropertyDTO property : getAllProperties()) {
+            for (String amenity : property.getAmenities()) {
+                if (amenity != null && !amenity.isBlank()) {
+                    names.putIfAbsent(AmenityDictionary.normalize(amenity), amenity.trim());
+                }
+            }
+        }
+        return names.values().stream()
+                .sorted(String.CASE_INSENSITIVE_ORDER)
                 .collect(Collectors.toList());
     }
 
@@ -134,6 +412,122 @@ public class PropertyServiceImpl implements PropertyService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Indicates whether the in-memory indexes needed by the given criteria are loaded.
+     *
+     * @param criteria the filter criteria
+     * @return true if the search can be answered from the indexes
+     */
+    private boolean indexesReady(PropertySearchCriteria criteria) {
+        return propertySearchIndex.isReady() && (!criteria.hasText() || propertyTextIndex.isReady());
+    }
+
+    /**
+     * Runs the database filter query and applies the geographic filters to its results,
+     * ignoring the text query of the criteria.
+     *
+     * @param criteria the filter criteria
+     * @return the converted matching properties
+     */
+    private List<PropertyDTO> findMatchesInDatabase(PropertySearchCriteria criteria) {
+        return propertyRepository.findByFilters(criteria.getLocation(), criteria.getMinPrice(),
+                        criteria.getMaxPrice(), criteria.getBedrooms(), criteria.getBathrooms(), criteria.getGuests())
+                .stream()
+                .filter(property -> GeoDistance.matches(criteria, property.getLatitude(), property.getLongitude()))
+                .map(this::convertToDTO)
+                .filter(property -> AmenityDictionary.matches(criteria, property.getAmenities()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the properties with the given IDs and converts them, preserving the order of the IDs.
+     * IDs of properties deleted since they were looked up are skipped.
+     *
+     * @param ids the property IDs
+     * @return the converted property DTOs
+     */
+    private List<PropertyDTO> findAllByIdInOrder(List<Long> ids) {
+        Map<Long, Property> propertiesById = propertyRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        return ids.stream()
+                .map(propertiesById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the keyset scroll position continuing after a cursor.
+     *
+     * @param sort the sort order
+     * @param after the cursor, or null for the first page
+     * @return the scroll position
+     */
+    private static ScrollPosition scrollPosition(PropertySort sort, PropertyCursor after) {
+        if (after == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sort.getAttribute(), after.getKey());
+        keys.put("id", after.getId());
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Returns the function extracting the sort key of a property.
+     *
+     * @param sort the sort order
+     * @param criteria the filter criteria, with a center for {@link PropertySort#DISTANCE}
+     * @param textMatches the text matches scoring each property, required for {@link PropertySort#RELEVANCE}
+     * @return the sort key function
+     */
+    private static Function<PropertyDTO, Object> sortKeyOf(PropertySort sort, PropertySearchCriteria criteria,
+                                                          TextSearchResult textMatches) {
+        return switch (sort) {
+            case PRICE -> PropertyDTO::getPrice;
+            case CREATED_AT -> PropertyDTO::getCreatedAt;
+            case RATING -> PropertyDTO::getAverageRating;
+            case RELEVANCE -> property -> textMatches.scoreOf(property.getId());
+            case DISTANCE -> property -> GeoDistance.distanceKm(criteria, property.getLatitude(), property.getLongitude());
+        };
+    }
+
+    /**
+     * Orders property DTOs by sort key and then by ID.
+     *
+     * @param keyOf extracts the sort key
+     * @param direction the sort direction
+     * @return the comparator
+     */
+    private static Comparator<PropertyDTO> pageOrder(Function<PropertyDTO, Object> keyOf, Sort.Direction direction) {
+        Comparator<PropertyDTO> byKey = (a, b) -> compareKeys(keyOf.apply(a), keyOf.apply(b));
+        Comparator<PropertyDTO> order = byKey.thenComparing(PropertyDTO::getId);
+        return direction.isDescending() ? order.reversed() : order;
+    }
+
+    /**
+     * Indicates whether a property comes strictly after a cursor position.
+     *
+     * @param property the property
+     * @param keyOf extracts the sort key
+     * @param direction the sort direction
+     * @param cursor the cursor
+     * @return true if the property belongs to a later page
+     */
+    private static boolean isAfter(PropertyDTO property, Function<PropertyDTO, Object> keyOf,
+                                   Sort.Direction direction, PropertyCursor cursor) {
+        int cmp = compareKeys(keyOf.apply(property), cursor.getKey());
+        if (cmp == 0) {
+            cmp = property.getId().compareTo(cursor.getId());
+        }
+        return direction.isDescending() ? cmp < 0 : cmp > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(Object a, Object b) {
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
     /**
      * Converts a Property entity to a PropertyDTO.
      *
@@ -146,6 +540,8 @@ public class PropertyServiceImpl implements PropertyService {
         dto.setTitle(property.getTitle());
         dto.setDescription(property.getDescription());
         dto.setLocation(property.getLocation());
+        dto.setLatitude(property.getLatitude());
+        dto.setLongitude(property.getLongitude());
         dto.setPrice(property.getPrice());
         dto.setBedrooms(property.getBedrooms());
         dto.setBathrooms(property.getBathrooms());
@@ -154,18 +550,13 @@ public class PropertyServiceImpl implements PropertyService {
         dto.setCreatedAt(property.getCreatedAt());
         dto.setUpdatedAt(property.getUpdatedAt());
         
-        // Get average rating
-        Double avgRating = reviewRepository.getAverageRatingForProperty(property.getId());
-        dto.setAverageRating(avgRating != null ? avgRating : 0.0);
+        // Rating aggregates are denormalized onto the property, so no per-row query is needed
+        dto.setAverageRating(property.getAverageRating() != null ? property.getAverageRating() : 0.0);
         
-        try {
-            // Parse JSON strings to lists
-            dto.setAmenities(objectMapper.readValue(property.getAmenities(), new TypeReference<List<String>>() {}));
-            dto.setImages(objectMapper.readValue(property.getImages(), new TypeReference<List<String>>() {}));
-        } catch (JsonProcessingException e) {
-            dto.setAmenities(new ArrayList<>());
-            dto.setImages(new ArrayList<>());
-        }
+        // JSON columns are parsed once per property version and shared as immutable lists
+        PropertyAttributeCache.ParsedAttributes attributes = attributeCache.get(property);
+        dto.setAmenities(attributes.amenities());
+        dto.setImages(attributes.images());
         
         return dto;
     }
@@ -181,18 +572,16 @@ public class PropertyServiceImpl implements PropertyService {
         property.setTitle(dto.getTitle());
         property.setDescription(dto.getDescription());
         property.setLocation(dto.getLocation());
+        property.setLatitude(dto.getLatitude());
+        property.setLongitude(dto.getLongitude());
         property.setPrice(dto.getPrice());
         property.setBedrooms(dto.getBedrooms());
         property.setBathrooms(dto.getBathrooms());
         property.setMaxGuests(dto.getMaxGuests());
         property.setOwnerId(dto.getOwnerId());
         
-        try {
-            property.setAmenities(objectMapper.writeValueAsString(dto.getAmenities()));
-            property.setImages(objectMapper.writeValueAsString(dto.getImages()));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing JSON", e);
-        }
+        property.setAmenities(attributeCache.write(dto.getAmenities()));
+        property.setImages(attributeCache.write(dto.getImages()));
         
         return property;
     }
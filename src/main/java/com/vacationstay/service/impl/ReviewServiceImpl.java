@@ -1,15 +1,20 @@
 package com.vacationstay.service.impl;
 
 import com.vacationstay.dto.ReviewDTO;
+import com.vacationstay.event.PropertyRatingChangedEvent;
 import com.vacationstay.model.Property;
 import com.vacationstay.model.Review;
 import com.vacationstay.model.User;
 import com.vacationstay.repository.PropertyRepository;
+import com.vacationstay.repository.RatingAggregate;
 import com.vacationstay.repository.ReviewRepository;
 import com.vacationstay.repository.UserRepository;
 import com.vacationstay.service.ReviewService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +23,15 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int RECONCILIATION_BATCH_SIZE = 500;
+
     private final ReviewRepository reviewRepository;
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -73,6 +82,8 @@ public class ReviewServiceImpl implements ReviewService {
         review.setComment(reviewDTO.getComment());
         
         Review savedReview = reviewRepository.save(review);
+        propertyRepository.applyRatingDelta(property.getId(), 1, savedReview.getRating());
+        publishRatingChange(property.getId());
         return convertToDTO(savedReview);
     }
 
@@ -82,20 +93,27 @@ public class ReviewServiceImpl implements ReviewService {
         Review existingReview = reviewRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Review not found with id: " + id));
         
+        int previousRating = existingReview.getRating();
         existingReview.setRating(reviewDTO.getRating());
         existingReview.setComment(reviewDTO.getComment());
         
         Review updatedReview = reviewRepository.save(existingReview);
+        if (updatedReview.getRating() != previousRating) {
+            propertyRepository.applyRatingDelta(
+                    updatedReview.getProperty().getId(), 0, updatedReview.getRating() - previousRating);
+            publishRatingChange(updatedReview.getProperty().getId());
+        }
         return convertToDTO(updatedReview);
     }
 
     @Override
     @Transactional
     public void deleteReview(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new EntityNotFoundException("Review not found with id: " + id);
-        }
-        reviewRepository.deleteById(id);
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Review not found with id: " + id));
+        reviewRepository.delete(review);
+        propertyRepository.applyRatingDelta(review.getProperty().getId(), -1, -review.getRating());
+        publishRatingChange(review.getProperty().getId());
     }
 
     @Override
@@ -104,6 +122,46 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewRepository.getAverageRatingForProperty(propertyId);
     }
 
+    @Override
+    @Transactional
+    public int reconcileRatingAggregates() {
+        int repaired = 0;
+        long afterId = 0L;
+        List<RatingAggregate> drifted;
+        do {
+            drifted = propertyRepository.findDriftedRatingAggregates(
+                    afterId, PageRequest.of(0, RECONCILIATION_BATCH_SIZE));
+            for (RatingAggregate aggregate : drifted) {
+                int count = aggregate.getActualCount().intValue();
+                long sum = aggregate.getActualSum();
+                double average = count > 0 ? (double) sum / count : 0.0;
+                int updated = propertyRepository.repairRatingAggregate(aggregate.getPropertyId(),
+                        aggregate.getStoredCount(), aggregate.getStoredSum(), count, sum, average);
+                if (updated > 0) {
+                    log.warn("Rating aggregates drifted for property {}: stored {}/{}, actual {}/{}",
+                            aggregate.getPropertyId(), aggregate.getStoredCount(), aggregate.getStoredSum(), count, sum);
+                    eventPublisher.publishEvent(new PropertyRatingChangedEvent(aggregate.getPropertyId(), average));
+                } else {
+                    log.debug("Skipped rating aggregate repair for property {}: changed concurrently",
+                            aggregate.getPropertyId());
+                }
+                repaired += updated;
+                afterId = aggregate.getPropertyId();
+            }
+        } while (drifted.size() == RECONCILIATION_BATCH_SIZE);
+        return repaired;
+    }
+
+    /**
+     * Publishes the stored average rating of a property after its aggregates changed.
+     *
+     * @param propertyId the ID of the property
+     */
+    private void publishRatingChange(Long propertyId) {
+        eventPublisher.publishEvent(
+                new PropertyRatingChangedEvent(propertyId, propertyRepository.findAverageRatingById(propertyId)));
+    }
+
     private ReviewDTO convertToDTO(Review review) {
         ReviewDTO dto = new ReviewDTO();
         dto.setId(review.getId());
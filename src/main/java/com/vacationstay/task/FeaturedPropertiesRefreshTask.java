@@ -0,0 +1,38 @@
+package com.vacationstay.task;
+
+import com.vacationstay.service.PropertyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled task that recomputes the featured properties shown on the home page.
+ * <p>
+ * New listings and rating changes are picked up on the next refresh.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeaturedPropertiesRefreshTask {
+
+    private final PropertyService propertyService;
+
+    /**
+     * Refreshes the featured property selection.
+     */
+    @Scheduled(initialDelayString = "${app.featured.refresh-interval-ms:300000}",
+               fixedDelayString = "${app.featured.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            propertyService.refreshFeaturedProperties();
+        } catch (Exception e) {
+            log.error("Featured properties refresh failed", e);
+        }
+    }
+}
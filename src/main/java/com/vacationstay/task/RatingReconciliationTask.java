@@ -0,0 +1,42 @@
+package com.vacationstay.task;
+
+import com.vacationstay.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled task that repairs drift in the rating aggregates stored on properties.
+ * <p>
+ * Review writes keep the aggregates current; this task catches changes made outside
+ * the review service, such as reviews removed by cascading deletes.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingReconciliationTask {
+
+    private final ReviewService reviewService;
+
+    /**
+     * Reconciles the rating aggregates of all properties.
+     */
+    @Scheduled(initialDelayString = "${app.ratings.reconciliation.initial-delay-ms:60000}",
+               fixedDelayString = "${app.ratings.reconciliation.interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            int repaired = reviewService.reconcileRatingAggregates();
+            if (repaired > 0) {
+                log.info("Repaired rating aggregates for {} properties", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Rating aggregate reconciliation failed", e);
+        }
+    }
+}
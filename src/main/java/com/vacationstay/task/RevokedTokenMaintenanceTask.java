@@ -0,0 +1,51 @@
+package com.vacationstay.task;
+
+import com.vacationstay.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled tasks that keep the JWT revocation list current and small.
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenMaintenanceTask {
+
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * Picks up tokens revoked by other instances.
+     */
+    @Scheduled(initialDelayString = "${app.jwt.revocation.sync-interval-ms:30000}",
+               fixedDelayString = "${app.jwt.revocation.sync-interval-ms:30000}")
+    public void synchronize() {
+        try {
+            tokenRevocationList.synchronize();
+        } catch (Exception e) {
+            log.error("Revoked token synchronization failed", e);
+        }
+    }
+
+    /**
+     * Removes revocations of tokens that have expired.
+     */
+    @Scheduled(initialDelayString = "${app.jwt.revocation.prune-interval-ms:3600000}",
+               fixedDelayString = "${app.jwt.revocation.prune-interval-ms:3600000}")
+    public void prune() {
+        try {
+            int pruned = tokenRevocationList.pruneExpired();
+            if (pruned > 0) {
+                log.info("Pruned {} expired token revocations", pruned);
+            }
+        } catch (Exception e) {
+            log.error("Revoked token pruning failed", e);
+        }
+    }
+}
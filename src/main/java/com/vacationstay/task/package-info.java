@@ -0,0 +1,12 @@
+/**
+ * Package containing scheduled background tasks for the VacationStay rental application.
+ * <p>
+ * This package contains periodic jobs that maintain derived data, such as
+ * reconciling denormalized aggregates with their source tables.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+package com.vacationstay.task;
@@ -1,9 +1,9 @@
 -- Insert sample users
 -- john_doe_password
 -- jane_smith_password
-INSERT INTO users (name, email, password, created_at, updated_at) VALUES
-('John Doe', 'john@example.com', '$2a$12$EIV8VcWDHFBLZMaOWKzhOeuF9zfCnpAVwFatnowaXQqsZVBXu3wqq', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('Jane Smith', 'jane@example.com', '$2a$12$ZaG2ic.WwQffKVU.46F09evTm9BOsCy/BO/cT3SV2eM46nheJ7CwG', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO users (id, name, email, password, created_at, updated_at) VALUES
+(1, 'John Doe', 'john@example.com', '$2a$12$EIV8VcWDHFBLZMaOWKzhOeuF9zfCnpAVwFatnowaXQqsZVBXu3wqq', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(2, 'Jane Smith', 'jane@example.com', '$2a$12$ZaG2ic.WwQffKVU.46F09evTm9BOsCy/BO/cT3SV2eM46nheJ7CwG', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert user roles
 INSERT INTO user_roles (user_id, role) VALUES
@@ -11,41 +11,58 @@ INSERT INTO user_roles (user_id, role) VALUES
 (2, 'USER');
 
 -- Insert sample properties
-INSERT INTO properties (title, description, location, price, bedrooms, bathrooms, max_guests, amenities, images, owner_id, created_at, updated_at) VALUES
-('Beachfront Villa', 'Stunning villa with direct beach access and panoramic ocean views.', 'Malibu, CA', 450.00, 4, 3, 8, 
+INSERT INTO properties (id, title, description, location, latitude, longitude, price, bedrooms, bathrooms, max_guests, amenities, images, owner_id, created_at, updated_at) VALUES
+(1, 'Beachfront Villa', 'Stunning villa with direct beach access and panoramic ocean views.', 'Malibu, CA', 34.0259, -118.7798, 450.00, 4, 3, 8, 
  '["WiFi", "Pool", "Beach Access", "Kitchen", "Air Conditioning", "BBQ"]', 
  '["https://images.unsplash.com/photo-1499793983690-e29da59ef1c2", "https://images.unsplash.com/photo-1501876725168-00c445821c9e"]', 
  '1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
  
-('Mountain Cabin', 'Cozy cabin nestled in the mountains with breathtaking views.', 'Aspen, CO', 250.00, 2, 2, 6, 
+(2, 'Mountain Cabin', 'Cozy cabin nestled in the mountains with breathtaking views.', 'Aspen, CO', 39.1911, -106.8175, 250.00, 2, 2, 6, 
  '["WiFi", "Fireplace", "Hot Tub", "Kitchen", "Heating", "Parking"]', 
  '["https://images.unsplash.com/photo-1518732714860-b62714ce0c59", "https://images.unsplash.com/photo-1520250497591-112f2f40a3f4"]', 
  '1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
  
-('Downtown Loft', 'Modern loft in the heart of the city with easy access to attractions.', 'New York, NY', 300.00, 1, 1, 2, 
+(3, 'Downtown Loft', 'Modern loft in the heart of the city with easy access to attractions.', 'New York, NY', 40.7128, -74.0060, 300.00, 1, 1, 2, 
  '["WiFi", "Kitchen", "Air Conditioning", "Gym", "Doorman", "Elevator"]', 
  '["https://images.unsplash.com/photo-1502672260266-1c1ef2d93688", "https://images.unsplash.com/photo-1536376072261-38c75010e6c9"]', 
  '2', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
  
-('Lakeside Cottage', 'Charming cottage by the lake with private dock and canoe.', 'Lake Tahoe, CA', 200.00, 3, 2, 6, 
+(4, 'Lakeside Cottage', 'Charming cottage by the lake with private dock and canoe.', 'Lake Tahoe, CA', 39.0968, -120.0324, 200.00, 3, 2, 6, 
  '["WiFi", "Fireplace", "Lake Access", "Kitchen", "Heating", "Parking"]', 
  '["https://images.unsplash.com/photo-1475113548554-5a36f1f523d6", "https://images.unsplash.com/photo-1470770841072-f978cf4d019e"]', 
  '2', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
  
-('Tropical Paradise', 'Luxurious villa surrounded by tropical gardens with private pool.', 'Maui, HI', 500.00, 5, 4, 10, 
+(5, 'Tropical Paradise', 'Luxurious villa surrounded by tropical gardens with private pool.', 'Maui, HI', 20.7984, -156.3319, 500.00, 5, 4, 10, 
  '["WiFi", "Pool", "Beach Access", "Kitchen", "Air Conditioning", "BBQ"]', 
  '["https://images.unsplash.com/photo-1505881502353-a1986add3762", "https://images.unsplash.com/photo-1518684079-3c830dcef090"]', 
  '1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert sample bookings
-INSERT INTO bookings (property_id, user_id, start_date, end_date, total_price, status, created_at, updated_at) VALUES
-(1, 2, '2023-12-10', '2023-12-15', 2250.00, 'confirmed', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(3, 1, '2023-11-05', '2023-11-10', 1500.00, 'confirmed', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(2, 2, '2023-10-20', '2023-10-25', 1250.00, 'cancelled', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO bookings (id, property_id, user_id, start_date, end_date, total_price, status, created_at, updated_at) VALUES
+(1, 1, 2, '2023-12-10', '2023-12-15', 2250.00, 'confirmed', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(2, 3, 1, '2023-11-05', '2023-11-10', 1500.00, 'confirmed', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(3, 2, 2, '2023-10-20', '2023-10-25', 1250.00, 'cancelled', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+-- Hold the dates of the active sample bookings
+INSERT INTO booked_dates (property_id, booked_date, booking_id) VALUES
+(1, '2023-12-10', 1), (1, '2023-12-11', 1), (1, '2023-12-12', 1), (1, '2023-12-13', 1), (1, '2023-12-14', 1), (1, '2023-12-15', 1),
+(3, '2023-11-05', 2), (3, '2023-11-06', 2), (3, '2023-11-07', 2), (3, '2023-11-08', 2), (3, '2023-11-09', 2), (3, '2023-11-10', 2);
 
 -- Insert sample reviews
-INSERT INTO reviews (property_id, user_id, rating, comment, created_at) VALUES
-(1, 2, 5, 'Amazing property with stunning views! The beach access was perfect and the villa had everything we needed.', CURRENT_TIMESTAMP),
-(2, 1, 4, 'Great cabin with beautiful mountain views. The hot tub was a nice touch after a day of hiking.', CURRENT_TIMESTAMP),
-(3, 1, 5, 'Perfect location in the heart of NYC. Modern, clean, and comfortable.', CURRENT_TIMESTAMP),
-(4, 2, 4, 'Lovely cottage by the lake. Very peaceful and relaxing.', CURRENT_TIMESTAMP);
\ No newline at end of file
+INSERT INTO reviews (id, property_id, user_id, rating, comment, created_at) VALUES
+(1, 1, 2, 5, 'Amazing property with stunning views! The beach access was perfect and the villa had everything we needed.', CURRENT_TIMESTAMP),
+(2, 2, 1, 4, 'Great cabin with beautiful mountain views. The hot tub was a nice touch after a day of hiking.', CURRENT_TIMESTAMP),
+(3, 3, 1, 5, 'Perfect location in the heart of NYC. Modern, clean, and comfortable.', CURRENT_TIMESTAMP),
+(4, 4, 2, 4, 'Lovely cottage by the lake. Very peaceful and relaxing.', CURRENT_TIMESTAMP);
+
+-- Initialize denormalized rating aggregates from the sample reviews
+UPDATE properties SET
+    rating_count = (SELECT COUNT(*) FROM reviews r WHERE r.property_id = properties.id),
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.property_id = properties.id);
+UPDATE properties SET average_rating = CASE WHEN rating_count > 0 THEN CAST(rating_sum AS DOUBLE) / rating_count ELSE 0 END;
+
+-- Continue the ID sequences after the sample rows
+ALTER SEQUENCE users_seq RESTART WITH 3;
+ALTER SEQUENCE properties_seq RESTART WITH 6;
+ALTER SEQUENCE bookings_seq RESTART WITH 4;
+ALTER SEQUENCE reviews_seq RESTART WITH 5;
@@ -1,9 +1,15 @@
 -- Database schema for VacationStay rental application
 -- This script creates the necessary tables for the vacation rental system
 
+-- ID sequences; each call reserves a block of IDs (app.persistence.id-allocation-size)
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS properties_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reviews_seq START WITH 1 INCREMENT BY 50;
+
 -- Users table
 CREATE TABLE IF NOT EXISTS users (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     email VARCHAR(255) NOT NULL UNIQUE,
     password VARCHAR(255),
@@ -24,10 +30,12 @@ CREATE TABLE IF NOT EXISTS user_roles (
 
 -- Properties table
 CREATE TABLE IF NOT EXISTS properties (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     description TEXT NOT NULL,
     location VARCHAR(255) NOT NULL,
+    latitude DOUBLE,
+    longitude DOUBLE,
     price DECIMAL(10, 2) NOT NULL,
     bedrooms INTEGER NOT NULL,
     bathrooms INTEGER NOT NULL,
@@ -35,13 +43,16 @@ CREATE TABLE IF NOT EXISTS properties (
     amenities TEXT NOT NULL,
     images TEXT NOT NULL,
     owner_id VARCHAR(255),
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    average_rating DOUBLE NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
 -- Bookings table
 CREATE TABLE IF NOT EXISTS bookings (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     property_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     start_date DATE NOT NULL,
@@ -56,7 +67,7 @@ CREATE TABLE IF NOT EXISTS bookings (
 
 -- Reviews table
 CREATE TABLE IF NOT EXISTS reviews (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     property_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     rating INTEGER NOT NULL,
@@ -66,13 +77,35 @@ CREATE TABLE IF NOT EXISTS reviews (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+-- Booked dates table (one row per booked night)
+CREATE TABLE IF NOT EXISTS booked_dates (
+    property_id BIGINT NOT NULL,
+    booked_date DATE NOT NULL,
+    booking_id BIGINT NOT NULL,
+    PRIMARY KEY (property_id, booked_date),
+    FOREIGN KEY (booking_id) REFERENCES bookings(id) ON DELETE CASCADE
+);
+
+-- Revoked tokens table
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL
+);
+
 -- Create indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_properties_location ON properties(location);
 CREATE INDEX IF NOT EXISTS idx_properties_price ON properties(price);
+CREATE INDEX IF NOT EXISTS idx_properties_price_id ON properties(price, id);
+CREATE INDEX IF NOT EXISTS idx_properties_created_at_id ON properties(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_properties_average_rating_id ON properties(average_rating, id);
 CREATE INDEX IF NOT EXISTS idx_bookings_property_id ON bookings(property_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_user_id ON bookings(user_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_dates ON bookings(start_date, end_date);
+CREATE INDEX IF NOT EXISTS idx_booked_dates_booking_id ON booked_dates(booking_id);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
 CREATE INDEX IF NOT EXISTS idx_reviews_property_id ON reviews(property_id);
 CREATE INDEX IF NOT EXISTS idx_reviews_user_id ON reviews(user_id);
 CREATE INDEX IF NOT EXISTS idx_reviews_rating ON reviews(rating);
\ No newline at end of file
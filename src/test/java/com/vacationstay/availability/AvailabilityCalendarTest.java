@@ -0,0 +1,138 @@
+package com.vacationstay.availability;
+
+import com.vacationstay.event.BookingChangedEvent;
+import com.vacationstay.event.BookingDeletedEvent;
+import com.vacationstay.model.Booking;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.BookingDateRange;
+import com.vacationstay.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory availability calendar.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Availability Calendar Tests")
+class AvailabilityCalendarTest {
+
+    private static final Long PROPERTY_ID = 1L;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private AvailabilityCalendar calendar;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new AvailabilityCalendar(bookingRepository, 731, 100);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should load a calendar once and answer later checks from memory")
+    void shouldLoadCalendarOnce() {
+        stubBookings(range(10L, today.plusDays(10), today.plusDays(14)));
+
+        assertFalse(calendar.isAvailable(PROPERTY_ID, today.plusDays(14), today.plusDays(16)));
+        assertFalse(calendar.isAvailable(PROPERTY_ID, today.plusDays(8), today.plusDays(10)));
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(15), today.plusDays(20)));
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(1), today.plusDays(9)));
+
+        verify(bookingRepository, times(1)).findActiveDateRanges(eq(PROPERTY_ID), any(), any());
+        assertEquals(1, calendar.cachedProperties());
+    }
+
+    @Test
+    @DisplayName("Should apply committed bookings, cancellations and deletions")
+    void shouldApplyBookingEvents() {
+        stubBookings();
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(30), today.plusDays(32)));
+
+        Booking booking = booking(20L, today.plusDays(30), today.plusDays(35), "confirmed");
+        calendar.onBookingChanged(new BookingChangedEvent(booking));
+        assertFalse(calendar.isAvailable(PROPERTY_ID, today.plusDays(30), today.plusDays(32)));
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(30), today.plusDays(32), 20L));
+
+        booking.setStatus("cancelled");
+        calendar.onBookingChanged(new BookingChangedEvent(booking));
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(30), today.plusDays(32)));
+
+        booking.setStatus("confirmed");
+        calendar.onBookingChanged(new BookingChangedEvent(booking));
+        calendar.onBookingDeleted(new BookingDeletedEvent(20L, PROPERTY_ID));
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(30), today.plusDays(35)));
+    }
+
+    @Test
+    @DisplayName("Should keep days occupied by another booking when one booking is removed")
+    void shouldKeepDaysOfOverlappingBookings() {
+        stubBookings(range(1L, today.plusDays(5), today.plusDays(10)), range(2L, today.plusDays(10), today.plusDays(12)));
+        assertFalse(calendar.isAvailable(PROPERTY_ID, today.plusDays(10), today.plusDays(10)));
+
+        calendar.onBookingDeleted(new BookingDeletedEvent(1L, PROPERTY_ID));
+
+        assertTrue(calendar.isAvailable(PROPERTY_ID, today.plusDays(5), today.plusDays(9)));
+        assertFalse(calendar.isAvailable(PROPERTY_ID, today.plusDays(10), today.plusDays(10)));
+    }
+
+    @Test
+    @DisplayName("Should check ranges outside the horizon against the database")
+    void shouldFallBackOutsideHorizon() {
+        LocalDate start = today.plusDays(800);
+        when(bookingRepository.existsActiveBookingBetween(PROPERTY_ID, start, start.plusDays(3), null)).thenReturn(true);
+
+        assertFalse(calendar.isAvailable(PROPERTY_ID, start, start.plusDays(3)));
+        assertEquals(0, calendar.cachedProperties());
+    }
+
+    private void stubBookings(BookingDateRange... ranges) {
+        when(bookingRepository.findActiveDateRanges(eq(PROPERTY_ID), any(), any())).thenReturn(List.of(ranges));
+    }
+
+    private static BookingDateRange range(Long id, LocalDate startDate, LocalDate endDate) {
+        return new BookingDateRange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+
+    private static Booking booking(Long id, LocalDate startDate, LocalDate endDate, String status) {
+        Property property = new Property();
+        property.setId(PROPERTY_ID);
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setProperty(property);
+        booking.setStartDate(startDate);
+        booking.setEndDate(endDate);
+        booking.setStatus(status);
+        return booking;
+    }
+}
@@ -0,0 +1,122 @@
+package com.vacationstay.benchmark;
+
+import com.vacationstay.VacationRentalApplication;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.service.PropertyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of inserting properties one per transaction and in bulk.
+ * <p>
+ * {@code createOneByOne} creates each property in its own transaction, the way the
+ * single-property API is used. {@code createInBulk} creates all of them in one call to
+ * {@link PropertyService#createProperties(List)}. The JDBC batch size is a parameter,
+ * so batch size 1 shows the cost of the bulk path without batching. Scores are
+ * properties per second against the in-memory H2 database, which has no network round
+ * trip per statement; the gain from batching is larger against a networked database.
+ * </p>
+ * <p>
+ * JMH forks a JVM per benchmark, so run it from a plain test classpath: {@code mvn
+ * test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt}, then {@code java -cp
+ * target/test-classes:target/classes:$(cat cp.txt) com.vacationstay.benchmark.BulkInsertBenchmark}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private PropertyService propertyService;
+    private List<PropertyDTO> properties;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(VacationRentalApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN")
+                .run();
+        propertyService = context.getBean(PropertyService.class);
+        properties = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            properties.add(newProperty(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createOneByOne() {
+        for (PropertyDTO property : properties) {
+            propertyService.createProperty(property);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Long> createInBulk() {
+        return propertyService.createProperties(properties);
+    }
+
+    private static PropertyDTO newProperty(int index) {
+        PropertyDTO property = new PropertyDTO();
+        property.setTitle("Benchmark Property " + index);
+        property.setDescription("A property inserted by the bulk insert benchmark.");
+        property.setLocation("Lisbon, Portugal");
+        property.setPrice(BigDecimal.valueOf(100 + index % 400));
+        property.setBedrooms(1 + index % 5);
+        property.setBathrooms(1 + index % 3);
+        property.setMaxGuests(2 + index % 8);
+        property.setAmenities(List.of("WiFi", "Kitchen"));
+        property.setImages(List.of());
+        property.setOwnerId("1");
+        return property;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
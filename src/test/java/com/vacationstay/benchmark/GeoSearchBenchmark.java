@@ -0,0 +1,134 @@
+package com.vacationstay.benchmark;
+
+import com.vacationstay.dto.PropertyClusterDTO;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import com.vacationstay.model.Property;
+import com.vacationstay.search.FacetedPage;
+import com.vacationstay.search.PropertyClusterIndex;
+import com.vacationstay.search.PropertySearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures geographic searches over a million indexed properties.
+ * <p>
+ * Properties are spread uniformly over the contiguous United States, roughly 700 per
+ * square degree. {@code radius*} and {@code viewport*} searches start from the spatial
+ * grid; {@code nearestWithoutFilter} has no radius and searches growing circles around
+ * the center until one holds a full page, and {@code viewportWithFacets} also counts the
+ * facets of every match. {@code clusters*} read map clusters for a
+ * 1920x1080-pixel viewport from the cluster grid.
+ * </p>
+ * <p>
+ * JMH forks a JVM per benchmark, so run it from a plain test classpath: {@code mvn
+ * test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt}, then {@code java -cp
+ * target/test-classes:target/classes:$(cat cp.txt) com.vacationstay.benchmark.GeoSearchBenchmark}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class GeoSearchBenchmark {
+
+    private static final int PROPERTIES = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final double DENVER_LATITUDE = 39.7392;
+    private static final double DENVER_LONGITUDE = -104.9903;
+
+    private PropertySearchIndex index;
+    private PropertyClusterIndex clusterIndex;
+
+    @Setup
+    public void setUp() {
+        index = new PropertySearchIndex();
+        clusterIndex = new PropertyClusterIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= PROPERTIES; id++) {
+            Property property = new Property("Property " + id, "Description", "Somewhere",
+                    BigDecimal.valueOf(50 + random.nextInt(950)), 1 + random.nextInt(5), 1 + random.nextInt(3),
+                    2 + random.nextInt(8), "[]", "[]", "1");
+            property.setId(id);
+            property.setLatitude(25 + random.nextDouble() * 24);
+            property.setLongitude(-125 + random.nextDouble() * 58);
+            index.upsert(property);
+            clusterIndex.upsert(property);
+        }
+    }
+
+    @Benchmark
+    public long[] radiusSortedByDistance() {
+        return index.searchPage(PropertySearchCriteria.builder()
+                        .latitude(DENVER_LATITUDE).longitude(DENVER_LONGITUDE).radiusKm(25.0).build(),
+                PropertySort.DISTANCE, Sort.Direction.ASC, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long[] radiusWithFiltersSortedByDistance() {
+        return index.searchPage(PropertySearchCriteria.builder()
+                        .latitude(DENVER_LATITUDE).longitude(DENVER_LONGITUDE).radiusKm(100.0)
+                        .maxPrice(new BigDecimal("300")).bedrooms(3).build(),
+                PropertySort.DISTANCE, Sort.Direction.ASC, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long[] viewportSortedByPrice() {
+        return index.searchPage(PropertySearchCriteria.builder()
+                        .minLatitude(39.5).maxLatitude(40.0).minLongitude(-105.3).maxLongitude(-104.6).build(),
+                PropertySort.PRICE, Sort.Direction.ASC, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FacetedPage viewportSortedByPriceWithFacets() {
+        return index.searchFacetedPage(PropertySearchCriteria.builder()
+                        .minLatitude(39.5).maxLatitude(40.0).minLongitude(-105.3).maxLongitude(-104.6).build(),
+                null, PropertySort.PRICE, Sort.Direction.ASC, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long[] nearestWithoutFilter() {
+        return index.searchPage(PropertySearchCriteria.builder()
+                        .latitude(DENVER_LATITUDE).longitude(DENVER_LONGITUDE).build(),
+                PropertySort.DISTANCE, Sort.Direction.ASC, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<PropertyClusterDTO> clustersCountryViewport() {
+        return clusterIndex.clusters(24.0, 50.0, -128.0, -64.0, 5);
+    }
+
+    @Benchmark
+    public List<PropertyClusterDTO> clustersCityViewport() {
+        return clusterIndex.clusters(39.6, 39.9, -105.3, -104.6, 11);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GeoSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.vacationstay.benchmark;
+
+import com.vacationstay.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of verifying an API token.
+ * <p>
+ * {@code legacyValidateThenExtract} reproduces the previous request path: derive the key
+ * and build a parser, verify the token, then do both again to read the subject.
+ * {@code parseOnce} is the current path with the verified-token cache disabled, and
+ * {@code parseCached} the current path with repeated requests hitting the cache.
+ * </p>
+ * <p>
+ * JMH forks a JVM per benchmark, so run it from a plain test classpath: {@code mvn
+ * test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt}, then {@code java -cp
+ * target/test-classes:target/classes:$(cat cp.txt) com.vacationstay.benchmark.JwtVerificationBenchmark}.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "vacationstay-secret-key-for-jwt-tokens-minimum-256-bits-required";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION_MS, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, EXPIRATION_MS, 10_000);
+        token = uncachedJwtUtil.generateToken(1L, "john@example.com", "John Doe", List.of("USER"));
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return uncachedJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseCached() {
+        return cachedJwtUtil.parseToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -64,7 +64,7 @@ class HomeControllerTest {
     @DisplayName("Should display home page with featured properties")
     @WithMockUser
     void shouldDisplayHomePageWithFeaturedProperties() throws Exception {
-        when(propertyService.getAllProperties()).thenReturn(testProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(testProperties.subList(0, 6));
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
@@ -78,7 +78,7 @@ class HomeControllerTest {
     @DisplayName("Should handle empty properties list")
     @WithMockUser
     void shouldHandleEmptyPropertiesList() throws Exception {
-        when(propertyService.getAllProperties()).thenReturn(new ArrayList<>());
+        when(propertyService.getFeaturedProperties(6)).thenReturn(new ArrayList<>());
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
@@ -93,7 +93,7 @@ class HomeControllerTest {
     @WithMockUser
     void shouldHandleFewerThanSixProperties() throws Exception {
         List<PropertyDTO> fewProperties = testProperties.subList(0, 3);
-        when(propertyService.getAllProperties()).thenReturn(fewProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(fewProperties);
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
@@ -107,7 +107,7 @@ class HomeControllerTest {
     @DisplayName("Should handle service exception gracefully")
     @WithMockUser
     void shouldHandleServiceExceptionGracefully() throws Exception {
-        when(propertyService.getAllProperties()).thenThrow(new RuntimeException("Service error"));
+        when(propertyService.getFeaturedProperties(6)).thenThrow(new RuntimeException("Service error"));
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk());
@@ -117,7 +117,7 @@ class HomeControllerTest {
     @DisplayName("Should include correct content type")
     @WithMockUser
     void shouldIncludeCorrectContentType() throws Exception {
-        when(propertyService.getAllProperties()).thenReturn(testProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(testProperties.subList(0, 6));
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
@@ -128,7 +128,7 @@ class HomeControllerTest {
     @DisplayName("Should handle internationalization")
     @WithMockUser
     void shouldHandleInternationalization() throws Exception {
-        when(propertyService.getAllProperties()).thenReturn(testProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(testProperties.subList(0, 6));
 
         mockMvc.perform(get("/")
                 .param("lang", "es"))
@@ -145,7 +145,7 @@ class HomeControllerTest {
     @DisplayName("Should handle concurrent requests")
     @WithMockUser
     void shouldHandleConcurrentRequests() throws Exception {
-        when(propertyService.getAllProperties()).thenReturn(testProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(testProperties.subList(0, 6));
 
         // Simulate multiple concurrent requests
         for (int i = 0; i < 5; i++) {
@@ -177,7 +177,7 @@ class HomeControllerTest {
             manyProperties.add(property);
         }
 
-        when(propertyService.getAllProperties()).thenReturn(manyProperties);
+        when(propertyService.getFeaturedProperties(6)).thenReturn(manyProperties.subList(0, 6));
 
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
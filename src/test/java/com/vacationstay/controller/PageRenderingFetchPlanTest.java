@@ -0,0 +1,103 @@
+package com.vacationstay.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Renders the web pages end to end and fails if any SQL statement runs outside a
+ * transaction.
+ * <p>
+ * With Open-Session-in-View disabled, a lazy association touched by a controller or
+ * template either fails with a LazyInitializationException or, through a repository
+ * call made outside the service layer, runs its query without the service transaction.
+ * Both show up here: the first as an error page, the second as a recorded statement.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vacationstay.controller.PageRenderingFetchPlanTest$TransactionBoundaryInspector")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Page Rendering Fetch Plan Tests")
+class PageRenderingFetchPlanTest {
+
+    private static final List<String> STATEMENTS_OUTSIDE_TRANSACTION = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS_OUTSIDE_TRANSACTION.clear();
+    }
+
+    @Test
+    @DisplayName("Should render the home page within transactions")
+    void shouldRenderHomePageWithinTransactions() throws Exception {
+        assertRenderedWithinTransactions(get("/"));
+    }
+
+    @Test
+    @DisplayName("Should render the property listing within transactions")
+    void shouldRenderPropertyListingWithinTransactions() throws Exception {
+        assertRenderedWithinTransactions(get("/properties"));
+        assertRenderedWithinTransactions(get("/properties").param("location", "Beach").param("sort", "price"));
+    }
+
+    @Test
+    @DisplayName("Should render property details with reviews and booked dates within transactions")
+    void shouldRenderPropertyDetailsWithinTransactions() throws Exception {
+        assertRenderedWithinTransactions(get("/properties/1"));
+    }
+
+    @Test
+    @WithUserDetails("john@example.com")
+    @DisplayName("Should render the dashboard within transactions")
+    void shouldRenderDashboardWithinTransactions() throws Exception {
+        assertRenderedWithinTransactions(get("/dashboard"));
+    }
+
+    private void assertRenderedWithinTransactions(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getModelAndView()).isNotNull();
+        assertThat(result.getModelAndView().getViewName()).doesNotStartWith("error");
+        assertThat(result.getModelAndView().getModel()).doesNotContainKey("error");
+        assertThat(result.getResolvedException()).isNull();
+        assertThat(STATEMENTS_OUTSIDE_TRANSACTION).isEmpty();
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares while no Spring transaction is active
+     * on the current thread.
+     */
+    public static class TransactionBoundaryInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                STATEMENTS_OUTSIDE_TRANSACTION.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.vacationstay.controller.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import com.vacationstay.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the property listing, booked ranges and import endpoints.
+ */
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Property API Controller Tests")
+class PropertyApiControllerTest {
+
+    private static final BigDecimal TIED_PRICE = new BigDecimal("123.45");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should continue a listing from the cursor of the previous page")
+    void shouldRoundTripCursor() throws Exception {
+        List<Long> all = ids(listing("sort", "price", "limit", "100").andReturn());
+
+        MvcResult first = listing("sort", "price", "limit", "2")
+                .andExpect(header().exists(PropertyApiController.NEXT_CURSOR_HEADER))
+                .andReturn();
+        String cursor = first.getResponse().getHeader(PropertyApiController.NEXT_CURSOR_HEADER);
+        MvcResult second = listing("sort", "price", "limit", "2", "cursor", cursor).andReturn();
+
+        assertEquals(all.subList(0, 2), ids(first));
+        assertEquals(all.subList(2, 4), ids(second));
+    }
+
+    @Test
+    @DisplayName("Should break price ties by ID across page boundaries")
+    void shouldBreakTiesByIdAcrossPages() throws Exception {
+        List<Long> tied = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tied.add(propertyRepository.saveAndFlush(property("Tied " + i)).getId());
+        }
+
+        List<Long> ascending = pageThrough("asc");
+        List<Long> descending = pageThrough("desc");
+
+        assertEquals(ascending.size(), new HashSet<>(ascending).size());
+        assertEquals(tied, ascending.stream().filter(tied::contains).toList());
+        assertEquals(reversed(tied), descending.stream().filter(tied::contains).toList());
+        assertEquals(reversed(ascending), descending);
+    }
+
+    @Test
+    @DisplayName("Should omit the next cursor on the last page")
+    void shouldOmitCursorOnLastPage() throws Exception {
+        listing("limit", "100")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PropertyApiController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for another sort order or direction")
+    void shouldRejectMismatchedCursor() throws Exception {
+        String cursor = listing("sort", "price", "limit", "1").andReturn()
+                .getResponse().getHeader(PropertyApiController.NEXT_CURSOR_HEADER);
+
+        listing("sort", "price", "direction", "desc", "limit", "1", "cursor", cursor)
+                .andExpect(status().isBadRequest());
+        listing("sort", "createdAt", "limit", "1", "cursor", cursor)
+                .andExpect(status().isBadRequest());
+        listing("sort", "price", "limit", "1", "cursor", "not-a-cursor")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should accept limits from 1 to 100 only")
+    void shouldValidateLimit() throws Exception {
+        listing("limit", "0").andExpect(status().isBadRequest());
+        listing("limit", "101").andExpect(status().isBadRequest());
+        assertEquals(1, ids(listing("limit", "1").andExpect(status().isOk()).andReturn()).size());
+        listing("limit", "100").andExpect(status().isOk());
+        listing().andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should accept booked range windows of up to 731 days")
+    void shouldCapBookedRangeWindow() throws Exception {
+        bookedRanges("2026-01-01", "2028-01-02").andExpect(status().isOk());
+        bookedRanges("2026-01-01", "2028-01-03").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject a booked range window that is empty or reversed")
+    void shouldRejectEmptyBookedRangeWindow() throws Exception {
+        bookedRanges("2026-11-01", "2026-11-01").andExpect(status().isBadRequest());
+        bookedRanges("2026-11-02", "2026-11-01").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should require authentication for the property import")
+    void shouldRequireAuthenticationForImport() throws Exception {
+        String token = jwtUtil.generateToken(1L, "john@example.com", "John Doe", Set.of("USER"));
+
+        mockMvc.perform(post("/api/properties/import").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/properties/import").contentType(MediaType.APPLICATION_NDJSON).content(""))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/properties/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(0));
+    }
+
+    private ResultActions bookedRanges(String from, String to) throws Exception {
+        return mockMvc.perform(get("/api/properties/1/booked-ranges").param("from", from).param("to", to));
+    }
+
+    private List<Long> pageThrough(String direction) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult page = cursor == null
+                    ? listing("sort", "price", "direction", direction, "limit", "2").andReturn()
+                    : listing("sort", "price", "direction", direction, "limit", "2", "cursor", cursor).andReturn();
+            ids.addAll(ids(page));
+            cursor = page.getResponse().getHeader(PropertyApiController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private ResultActions listing(String... parameters) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/properties");
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.param(parameters[i], parameters[i + 1]);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private List<Long> ids(MvcResult result) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode property : objectMapper.readTree(result.getResponse().getContentAsString())) {
+            ids.add(property.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private static List<Long> reversed(List<Long> ids) {
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static Property property(String title) {
+        return new Property(title, "Description", "Springfield", TIED_PRICE, 1, 1, 2, "[]", "[]", "1");
+    }
+}
@@ -0,0 +1,168 @@
+package com.vacationstay.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator for comparing request execution modes.
+ * <p>
+ * Each simulated client sends a request, waits for the response and immediately sends the
+ * next one, cycling through the given URLs. Clients are asynchronous request chains rather
+ * than threads, so thousands of them can run from one machine without the generator
+ * becoming the bottleneck. Latencies are recorded in 1 ms buckets after a warm-up period;
+ * the report gives throughput, error count and latency percentiles.
+ * </p>
+ * <p>
+ * Start the application in the mode under test, then run for example:
+ * </p>
+ * <pre>
+ * mvn spring-boot:run                       # platform threads
+ * mvn -Pvirtual-threads spring-boot:run     # virtual threads (JDK 21)
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.vacationstay.loadtest.LoadTestClient \
+ *     -Dexec.args="--clients 2000 --duration 60 --warmup 15 \
+ *                  --url http://localhost:8080/api/properties \
+ *                  --url http://localhost:8080/api/properties/1"
+ * </pre>
+ * <p>
+ * Options: {@code --url} (repeatable), {@code --clients} (default 2000), {@code --duration}
+ * and {@code --warmup} in seconds (defaults 60 and 15), and {@code --token} to send a
+ * bearer token for authenticated endpoints. Run both modes on the same machine with the
+ * same options, and keep the client on a separate host when possible.
+ * </p>
+ *
+ * @author VacationStay Team
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LoadTestClient {
+
+    private static final int MAX_LATENCY_MS = 60_000;
+
+    private final HttpClient httpClient;
+    private final List<HttpRequest> requests;
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(MAX_LATENCY_MS + 1);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadTestClient(List<String> urls, String token) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.requests = urls.stream()
+                .map(url -> {
+                    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Accept", "application/json");
+                    if (token != null) {
+                        builder.header("Authorization", "Bearer " + token);
+                    }
+                    return builder.GET().build();
+                })
+                .toList();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, List<String>> options = parse(args);
+        List<String> urls = options.getOrDefault("url", List.of("http://localhost:8080/api/properties"));
+        int clients = Integer.parseInt(first(options, "clients", "2000"));
+        int durationSeconds = Integer.parseInt(first(options, "duration", "60"));
+        int warmupSeconds = Integer.parseInt(first(options, "warmup", "15"));
+        String token = first(options, "token", null);
+
+        LoadTestClient loadTest = new LoadTestClient(urls, token);
+        System.out.printf("Running %d clients against %s: %ds warm-up, %ds measured%n",
+                clients, urls, warmupSeconds, durationSeconds);
+
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            loadTest.next(i, finished);
+        }
+        Thread.sleep(warmupSeconds * 1000L);
+        loadTest.recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(durationSeconds * 1000L);
+        loadTest.recording = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        loadTest.running = false;
+        finished.await();
+
+        loadTest.report(elapsedSeconds);
+    }
+
+    /**
+     * Sends the next request of a client and chains the one after it on completion.
+     */
+    private void next(int sequence, CountDownLatch finished) {
+        if (!running) {
+            finished.countDown();
+            return;
+        }
+        HttpRequest request = requests.get(sequence % requests.size());
+        long sentAt = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (recording) {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.increment();
+                        } else {
+                            long latencyMs = (System.nanoTime() - sentAt) / 1_000_000;
+                            latencyBuckets.incrementAndGet((int) Math.min(latencyMs, MAX_LATENCY_MS));
+                            completed.increment();
+                        }
+                    }
+                    next(sequence + 1, finished);
+                });
+    }
+
+    private void report(double elapsedSeconds) {
+        long count = completed.sum();
+        System.out.printf("Requests:   %d ok, %d errors%n", count, errors.sum());
+        System.out.printf("Throughput: %.1f req/s%n", count / elapsedSeconds);
+        System.out.printf("Latency:    p50 %d ms, p90 %d ms, p99 %d ms, max %d ms%n",
+                percentile(count, 0.50), percentile(count, 0.90), percentile(count, 0.99), percentile(count, 1.0));
+    }
+
+    private long percentile(long count, double quantile) {
+        long threshold = Math.max(1, (long) Math.ceil(count * quantile));
+        long seen = 0;
+        for (int ms = 0; ms <= MAX_LATENCY_MS; ms++) {
+            seen += latencyBuckets.get(ms);
+            if (seen >= threshold) {
+                return ms;
+            }
+        }
+        return MAX_LATENCY_MS;
+    }
+
+    private static Map<String, List<String>> parse(String[] args) {
+        Map<String, List<String>> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i] + " in " + Arrays.toString(args));
+            }
+            options.computeIfAbsent(args[i].substring(2), key -> new ArrayList<>()).add(args[i + 1]);
+        }
+        return options;
+    }
+
+    private static String first(Map<String, List<String>> options, String name, String defaultValue) {
+        List<String> values = options.get(name);
+        return values == null ? defaultValue : values.get(0);
+    }
+}
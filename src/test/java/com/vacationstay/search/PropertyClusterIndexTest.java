@@ -0,0 +1,150 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyClusterDTO;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory property cluster grid.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Cluster Index Tests")
+class PropertyClusterIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private final PropertyClusterIndex index = new PropertyClusterIndex();
+
+    @BeforeEach
+    void setUp() {
+        when(propertyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of(
+                property(1L, "450.00", 34.0259, -118.7798),
+                property(2L, "300.00", 34.0195, -118.4912),
+                property(3L, "250.00", 40.7128, -74.0060),
+                property(4L, "200.00", 20.7984, -156.3319),
+                property(5L, "100.00", null, null)));
+        new PropertyIndexLoader(propertyRepository, List.of(index)).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should aggregate the properties of each cell at the lowest zoom")
+    void shouldAggregateWorld() {
+        List<PropertyClusterDTO> clusters = index.clusters(-90, 90, -180, 180, 0);
+
+        assertTrue(index.isReady());
+        assertEquals(4, index.size());
+        assertEquals(List.of(3, 1), counts(clusters));
+        PropertyClusterDTO pacific = largest(clusters);
+        assertEquals(new BigDecimal("200.00"), pacific.getMinPrice());
+        assertEquals((34.0259 + 34.0195 + 20.7984) / 3, pacific.getLatitude(), 1e-9);
+        assertEquals((-118.7798 - 118.4912 - 156.3319) / 3, pacific.getLongitude(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should split clusters as the zoom increases")
+    void shouldSplitWithZoom() {
+        assertEquals(List.of(2, 1), counts(index.clusters(24, 50, -125, -66, 3)));
+        assertEquals(List.of(1, 1), counts(index.clusters(33.9, 34.1, -118.9, -118.4, 12)));
+        assertEquals(List.of(1, 1), counts(index.clusters(33.9, 34.1, -118.9, -118.4, 20)));
+    }
+
+    @Test
+    @DisplayName("Should include cells across the antimeridian")
+    void shouldWrapAntimeridian() {
+        index.upsert(property(6L, "80.00", -17.7134, 178.0650));
+
+        List<PropertyClusterDTO> clusters = index.clusters(-30, 30, 170, -150, 5);
+        assertEquals(2, clusters.size());
+        assertEquals(List.of(new BigDecimal("80.00"), new BigDecimal("200.00")), clusters.stream()
+                .map(PropertyClusterDTO::getMinPrice).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should update counts and lowest prices incrementally")
+    void shouldUpdateIncrementally() {
+        index.remove(4L);
+        assertEquals(new BigDecimal("300.00"), largest(index.clusters(-90, 90, -180, 180, 0)).getMinPrice());
+
+        index.upsert(property(2L, "300.00", 40.7306, -73.9352));
+        List<PropertyClusterDTO> clusters = index.clusters(-90, 90, -180, 180, 0);
+        assertEquals(List.of(2, 1), counts(clusters));
+        assertEquals(new BigDecimal("250.00"), largest(clusters).getMinPrice());
+
+        index.remove(3L);
+        index.upsert(property(1L, "450.00", null, null));
+        clusters = index.clusters(-90, 90, -180, 180, 0);
+        assertEquals(List.of(1), counts(clusters));
+        assertEquals(new BigDecimal("300.00"), clusters.get(0).getMinPrice());
+    }
+
+    @Test
+    @DisplayName("Should coarsen large viewports to bound the number of clusters")
+    void shouldBoundClusterCount() {
+        for (long id = 100; id < 3100; id++) {
+            index.upsert(property(id, "120.00", -60.0 + id % 120, -170.0 + id / 10 % 300));
+        }
+
+        List<PropertyClusterDTO> clusters = index.clusters(-85, 85, -180, 180, 22);
+        assertTrue(clusters.size() <= PropertyClusterIndex.MAX_CELLS);
+        assertEquals(3004, clusters.stream().mapToInt(PropertyClusterDTO::getCount).sum());
+    }
+
+    @Test
+    @DisplayName("Should cluster unindexed properties the same way")
+    void shouldClusterWithoutIndex() {
+        List<PropertyClusterDTO> clusters = PropertyClusterIndex.cluster(List.of(
+                dto(1L, "450.00", 34.0259, -118.7798),
+                dto(2L, "300.00", 34.0195, -118.4912),
+                dto(3L, "250.00", 40.7128, -74.0060),
+                dto(5L, "100.00", null, null)), 24, 50, -125, -66, 3);
+
+        assertEquals(counts(index.clusters(24, 50, -125, -66, 3)), counts(clusters));
+    }
+
+    private static List<Integer> counts(List<PropertyClusterDTO> clusters) {
+        return clusters.stream()
+                .map(PropertyClusterDTO::getCount)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+    private static PropertyClusterDTO largest(List<PropertyClusterDTO> clusters) {
+        return clusters.stream().max(Comparator.comparingInt(PropertyClusterDTO::getCount)).orElseThrow();
+    }
+
+    private static Property property(Long id, String price, Double latitude, Double longitude) {
+        Property property = new Property();
+        property.setId(id);
+        property.setPrice(new BigDecimal(price));
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+
+    private static PropertyDTO dto(Long id, String price, Double latitude, Double longitude) {
+        PropertyDTO property = new PropertyDTO();
+        property.setId(id);
+        property.setPrice(new BigDecimal(price));
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+}
@@ -0,0 +1,94 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the shared loading of the property indexes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Index Loader Tests")
+class PropertyIndexLoaderTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private final PropertySearchIndex searchIndex = new PropertySearchIndex();
+    private final PropertyTextIndex textIndex = new PropertyTextIndex();
+    private final PropertyClusterIndex clusterIndex = new PropertyClusterIndex();
+
+    @Test
+    @DisplayName("Should read the catalog once for every index")
+    void shouldLoadEveryIndexFromOneRead() {
+        when(propertyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of(
+                property(1L, "Beach Villa", "Malibu, CA"),
+                located(property(2L, "Mountain Cabin", "Aspen, CO"), 39.1911, -106.8175)));
+        PropertyIndexLoader loader = new PropertyIndexLoader(propertyRepository,
+                List.of(searchIndex, textIndex, clusterIndex));
+
+        assertFalse(searchIndex.isReady());
+        loader.rebuild();
+
+        verify(propertyRepository, times(1)).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+        assertTrue(searchIndex.isReady());
+        assertTrue(textIndex.isReady());
+        assertTrue(clusterIndex.isReady());
+        assertEquals(2, searchIndex.size());
+        assertEquals(2, textIndex.size());
+        assertEquals(1, clusterIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should let writes made during a rebuild take precedence over loaded rows")
+    void shouldPreferWritesMadeDuringRebuild() {
+        PropertyIndexLoader loader = new PropertyIndexLoader(propertyRepository, List.of(searchIndex, textIndex));
+        when(propertyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+            // Committed while the rows below were being read
+            loader.upsert(property(2L, "Lake House", "Lake Tahoe, CA"));
+            loader.remove(3L);
+            return List.of(
+                    property(1L, "Beach Villa", "Malibu, CA"),
+                    property(2L, "Mountain Cabin", "Aspen, CO"),
+                    property(3L, "Downtown Loft", "New York, NY"));
+        });
+
+        loader.rebuild();
+
+        assertArrayEquals(new long[]{1, 2}, searchIndex.search(new PropertySearchCriteria()));
+        assertArrayEquals(new long[]{2}, searchIndex.search(
+                PropertySearchCriteria.builder().location("tahoe").build()));
+        assertEquals(1, textIndex.search("lake", Locale.ENGLISH).size());
+        assertEquals(0, textIndex.search("cabin", Locale.ENGLISH).size());
+        assertEquals(0, textIndex.search("loft", Locale.ENGLISH).size());
+    }
+
+    private static Property located(Property property, double latitude, double longitude) {
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+
+    private static Property property(Long id, String title, String location) {
+        Property property = new Property(title, "Description", location, new BigDecimal("150.00"),
+                2, 1, 4, "[]", "[]", "1");
+        property.setId(id);
+        return property;
+    }
+}
@@ -0,0 +1,208 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyCursor;
+import com.vacationstay.dto.PropertyFacets;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory property search index.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Search Index Tests")
+class PropertySearchIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private final PropertySearchIndex index = new PropertySearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        when(propertyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of(
+                at(property(1L, "Malibu, CA", "450.00", 4, 3, 8), 34.0259, -118.7798),
+                at(property(2L, "Aspen, CO", "250.00", 2, 2, 6), 39.1911, -106.8175),
+                at(property(3L, "New York, NY", "300.00", 1, 1, 2), 40.7128, -74.0060),
+                at(property(4L, "Lake Tahoe, CA", "200.00", 3, 2, 6), 39.0968, -120.0324)));
+        new PropertyIndexLoader(propertyRepository, List.of(index)).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should be ready and contain all properties after rebuild")
+    void shouldBeReadyAfterRebuild() {
+        assertTrue(index.isReady());
+        assertEquals(4, index.size());
+        assertArrayEquals(new long[]{1, 2, 3, 4}, index.search(new PropertySearchCriteria()));
+    }
+
+    @Test
+    @DisplayName("Should match location tokens and fragments case-insensitively")
+    void shouldMatchLocation() {
+        assertArrayEquals(new long[]{1, 4}, index.search(PropertySearchCriteria.builder().location("ca").build()));
+        assertArrayEquals(new long[]{1}, index.search(PropertySearchCriteria.builder().location("MAL").build()));
+        assertArrayEquals(new long[]{3}, index.search(PropertySearchCriteria.builder().location("new york").build()));
+        assertArrayEquals(new long[0], index.search(PropertySearchCriteria.builder().location("paris").build()));
+    }
+
+    @Test
+    @DisplayName("Should apply price and capacity filters together")
+    void shouldApplyNumericFilters() {
+        PropertySearchCriteria criteria = PropertySearchCriteria.builder()
+                .minPrice(new BigDecimal("200"))
+                .maxPrice(new BigDecimal("300"))
+                .bedrooms(2)
+                .guests(6)
+                .build();
+
+        assertArrayEquals(new long[]{2, 4}, index.search(criteria));
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void shouldReflectUpdatesAndRemovals() {
+        index.upsert(property(2L, "Vail, CO", "150.00", 2, 2, 6));
+        index.remove(1L);
+        index.upsert(property(5L, "Aspen, CO", "600.00", 5, 4, 10));
+
+        assertArrayEquals(new long[]{5}, index.search(PropertySearchCriteria.builder().location("aspen").build()));
+        assertArrayEquals(new long[]{2}, index.search(PropertySearchCriteria.builder().maxPrice(new BigDecimal("199.99")).build()));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should match properties within a radius")
+    void shouldMatchRadius() {
+        assertArrayEquals(new long[]{1}, index.search(PropertySearchCriteria.builder()
+                .latitude(34.0259).longitude(-118.7798).radiusKm(100.0).build()));
+        assertArrayEquals(new long[]{1, 4}, index.search(PropertySearchCriteria.builder()
+                .latitude(34.05).longitude(-118.24).radiusKm(1000.0).build()));
+        assertArrayEquals(new long[]{4}, index.search(PropertySearchCriteria.builder()
+                .latitude(34.05).longitude(-118.24).radiusKm(1000.0).maxPrice(new BigDecimal("300")).build()));
+    }
+
+    @Test
+    @DisplayName("Should match bounding boxes, including boxes crossing the antimeridian")
+    void shouldMatchBoundingBox() {
+        assertArrayEquals(new long[]{1, 4}, index.search(PropertySearchCriteria.builder()
+                .minLatitude(32.0).maxLatitude(42.0).minLongitude(-125.0).maxLongitude(-114.0).build()));
+
+        index.upsert(at(property(5L, "Maui, HI", "500.00", 5, 4, 10), 20.7984, -156.3319));
+        index.upsert(at(property(6L, "Nadi, Fiji", "180.00", 2, 1, 4), -17.7765, 177.4356));
+        assertArrayEquals(new long[]{5, 6}, index.search(PropertySearchCriteria.builder()
+                .minLatitude(-25.0).maxLatitude(25.0).minLongitude(170.0).maxLongitude(-150.0).build()));
+    }
+
+    @Test
+    @DisplayName("Should page by distance from the search center")
+    void shouldSortByDistance() {
+        index.upsert(property(5L, "Unknown", "100.00", 1, 1, 2));
+        PropertySearchCriteria denver = PropertySearchCriteria.builder().latitude(39.7392).longitude(-104.9903).build();
+
+        assertArrayEquals(new long[]{2, 4, 1, 3, 5},
+                index.searchPage(denver, PropertySort.DISTANCE, Sort.Direction.ASC, null, 10));
+        assertArrayEquals(new long[]{2, 4},
+                index.searchPage(denver, PropertySort.DISTANCE, Sort.Direction.ASC, null, 2));
+        PropertyCursor afterTahoe = new PropertyCursor(PropertySort.DISTANCE, Sort.Direction.ASC,
+                GeoDistance.haversineKm(39.7392, -104.9903, 39.0968, -120.0324), 4L);
+        assertArrayEquals(new long[]{1, 3},
+                index.searchPage(denver, PropertySort.DISTANCE, Sort.Direction.ASC, afterTahoe, 2));
+    }
+
+    @Test
+    @DisplayName("Should move and drop properties in the spatial index")
+    void shouldUpdateSpatialIndex() {
+        PropertySearchCriteria nearMalibu = PropertySearchCriteria.builder()
+                .latitude(34.0259).longitude(-118.7798).radiusKm(50.0).build();
+
+        index.upsert(at(property(3L, "Santa Monica, CA", "300.00", 1, 1, 2), 34.0195, -118.4912));
+        assertArrayEquals(new long[]{1, 3}, index.search(nearMalibu));
+
+        index.remove(1L);
+        index.upsert(property(3L, "Somewhere", "300.00", 1, 1, 2));
+        assertArrayEquals(new long[0], index.search(nearMalibu));
+    }
+
+    @Test
+    @DisplayName("Should combine required and alternative amenity filters")
+    void shouldFilterByAmenities() {
+        index.upsert(with(property(1L, "Malibu, CA", "450.00", 4, 3, 8), "[\"WiFi\",\"Pool\",\"Beach Access\"]"));
+        index.upsert(with(property(2L, "Aspen, CO", "250.00", 2, 2, 6), "[\"WiFi\",\"Fireplace\",\"Hot Tub\"]"));
+        index.upsert(with(property(3L, "New York, NY", "300.00", 1, 1, 2), "[\"wifi\",\"Gym\"]"));
+        index.upsert(with(property(4L, "Lake Tahoe, CA", "200.00", 3, 2, 6), "[\"Pool\",\"Hot Tub\"]"));
+
+        assertArrayEquals(new long[]{1}, index.search(amenities(List.of("Pool", "WiFi"), null)));
+        assertArrayEquals(new long[]{1, 4}, index.search(amenities(List.of(" pool "), null)));
+        assertArrayEquals(new long[]{2, 3}, index.search(amenities(null, List.of("Gym", "Fireplace"))));
+        assertArrayEquals(new long[]{1, 3}, index.search(amenities(List.of("WiFi"), List.of("Pool", "Gym"))));
+        assertArrayEquals(new long[0], index.search(amenities(List.of("Sauna"), null)));
+        assertArrayEquals(new long[]{3}, index.search(amenities(null, List.of("Sauna", "Gym"))));
+        assertEquals(List.of("Beach Access", "Fireplace", "Gym", "Hot Tub", "Pool", "WiFi"), index.amenityNames());
+        assertTrue(AmenityDictionary.matches(amenities(List.of("WiFi"), List.of("Pool", "Gym")), List.of("WIFI", "gym")));
+        assertFalse(AmenityDictionary.matches(amenities(List.of("WiFi"), List.of("Pool", "Gym")), List.of("WiFi")));
+
+        index.upsert(with(property(3L, "New York, NY", "300.00", 1, 1, 2), "[]"));
+        index.remove(1L);
+        assertArrayEquals(new long[]{2}, index.search(amenities(List.of("wifi"), null)));
+        assertEquals(List.of("Fireplace", "Hot Tub", "Pool", "WiFi"), index.amenityNames());
+    }
+
+    @Test
+    @DisplayName("Should count facets of all matches alongside the page")
+    void shouldCountFacets() {
+        index.upsert(with(property(1L, "Malibu, CA", "450.00", 4, 3, 8), "[\"WiFi\",\"Pool\",\"Beach Access\"]"));
+        index.upsert(with(property(2L, "Aspen, CO", "250.00", 2, 2, 6), "[\"WiFi\",\"Fireplace\",\"Hot Tub\"]"));
+        index.upsert(with(property(4L, "Lake Tahoe, CA", "200.00", 3, 2, 6), "[\"Pool\",\"Hot Tub\"]"));
+        PropertySearchCriteria criteria = PropertySearchCriteria.builder().bedrooms(2).build();
+
+        FacetedPage page = index.searchFacetedPage(criteria, null, PropertySort.PRICE, Sort.Direction.ASC, null, 1);
+
+        assertArrayEquals(new long[]{4}, page.ids());
+        PropertyFacets facets = page.facets();
+        assertEquals(3, facets.getTotal());
+        assertEquals(List.of(0, 0, 2, 0, 1), facets.getPriceBands().stream().map(PropertyFacets.PriceBand::getCount).toList());
+        assertEquals(0, new BigDecimal("200.00").compareTo(facets.getPriceBands().get(2).getMin()));
+        assertEquals(Map.of(1, 3, 2, 3, 3, 2, 4, 1), facets.getBedrooms());
+        assertEquals(List.of("Hot Tub", "Pool", "WiFi", "Beach Access", "Fireplace"), List.copyOf(facets.getAmenities().keySet()));
+        assertEquals(2, facets.getAmenities().get("Pool"));
+    }
+
+    private static PropertySearchCriteria amenities(List<String> all, List<String> any) {
+        return PropertySearchCriteria.builder().amenities(all).anyAmenities(any).build();
+    }
+
+    private static Property with(Property property, String amenities) {
+        property.setAmenities(amenities);
+        return property;
+    }
+
+    private static Property at(Property property, double latitude, double longitude) {
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+
+    private Property property(Long id, String location, String price, int bedrooms, int bathrooms, int guests) {
+        Property property = new Property("Property " + id, "Description", location, new BigDecimal(price),
+                bedrooms, bathrooms, guests, "[]", "[]", "1");
+        property.setId(id);
+        return property;
+    }
+}
@@ -0,0 +1,174 @@
+package com.vacationstay.search;
+
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertySearchCriteria;
+import com.vacationstay.dto.PropertySort;
+import com.vacationstay.model.Property;
+import com.vacationstay.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory full-text property index.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Text Index Tests")
+class PropertyTextIndexTest {
+
+    private static final Locale HUNGARIAN = Locale.forLanguageTag("hu");
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private final PropertyTextIndex index = new PropertyTextIndex();
+    private final PropertySearchIndex searchIndex = new PropertySearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        when(propertyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of(
+                property(1L, "Luxury Beach Villa", "Stunning villa with ocean views and a private pool.",
+                        "Malibu, CA", "[\"WiFi\",\"Pool\",\"Beach Access\"]"),
+                property(2L, "Mountain Cabin", "Cozy cabin near the ski slopes. Walk to the beach in summer.",
+                        "Aspen, CO", "[\"Fireplace\",\"Hot Tub\"]"),
+                property(3L, "Downtown Loft", "Modern loft with city views.",
+                        "New York, NY", "[\"WiFi\",\"Gym\"]"),
+                property(4L, "Casa en la playa", "Hermosa casa frente al mar con piscina.",
+                        "Málaga, España", "[\"Piscina\",\"Terraza\"]")));
+        new PropertyIndexLoader(propertyRepository, List.of(index, searchIndex)).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should be ready and contain all properties after rebuild")
+    void shouldBeReadyAfterRebuild() {
+        assertTrue(index.isReady());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should match every query term across fields and stem plurals")
+    void shouldMatchAllTerms() {
+        assertIds(index.search("views", Locale.ENGLISH), 1, 3);
+        assertIds(index.search("villa pools", Locale.ENGLISH), 1);
+        assertIds(index.search("wifi new york", Locale.ENGLISH), 3);
+        assertIds(index.search("villa gym", Locale.ENGLISH), new long[0]);
+        assertIds(index.search("the and of", Locale.ENGLISH), new long[0]);
+    }
+
+    @Test
+    @DisplayName("Should rank title and amenity matches above description matches")
+    void shouldRankByFieldWeight() {
+        TextSearchResult result = index.search("beach", Locale.ENGLISH);
+        assertArrayEquals(new long[]{1, 2}, result.idsByRelevance());
+        assertTrue(result.scoreOf(1) > result.scoreOf(2));
+        assertEquals(0.0, result.scoreOf(3));
+    }
+
+    @Test
+    @DisplayName("Should fold accents and apply the analyzer of the locale")
+    void shouldApplyLocaleAnalyzer() {
+        assertIds(index.search("malaga", SPANISH), 4);
+        assertIds(index.search("piscinas", SPANISH), 4);
+        assertIds(index.search("casas playa", SPANISH), 4);
+        assertEquals(TextAnalyzer.HUNGARIAN, TextAnalyzer.forLocale(HUNGARIAN));
+        assertEquals(TextAnalyzer.ENGLISH, TextAnalyzer.forLocale(Locale.GERMAN));
+        assertEquals(TextAnalyzer.HUNGARIAN.analyze("házban"), TextAnalyzer.HUNGARIAN.analyze("házak"));
+        assertEquals(List.of("szoba"), TextAnalyzer.HUNGARIAN.analyze("a szobában"));
+    }
+
+    @Test
+    @DisplayName("Should apply updates and removals incrementally")
+    void shouldUpdateIncrementally() {
+        index.upsert(property(3L, "Downtown Loft with Pool", "Modern loft.", "New York, NY", "[]"));
+        index.upsert(property(5L, "Lake House", "Quiet lake house with a pool.", "Lake Tahoe, CA", "[]"));
+        index.remove(1L);
+
+        assertEquals(4, index.size());
+        assertIds(index.search("pool", Locale.ENGLISH), 3, 5);
+        assertIds(index.search("views", Locale.ENGLISH), new long[0]);
+    }
+
+    @Test
+    @DisplayName("Should keep matching after removed documents are renumbered")
+    void shouldRenumberAfterManyRemovals() {
+        for (long id = 100; id < 2200; id++) {
+            index.upsert(property(id, "Temporary Listing " + id, "Short stay.", "Nowhere", "[]"));
+        }
+        for (long id = 100; id < 2200; id++) {
+            index.remove(id);
+        }
+        index.upsert(property(2L, "Mountain Cabin", "Cozy cabin with a pool.", "Aspen, CO", "[]"));
+
+        assertEquals(4, index.size());
+        assertIds(index.search("temporary", Locale.ENGLISH), new long[0]);
+        assertIds(index.search("pool", Locale.ENGLISH), 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should rank unindexed properties the same way")
+    void shouldRankWithoutIndex() {
+        TextSearchResult result = PropertyTextIndex.rank("beach", Locale.ENGLISH, List.of(
+                dto(1L, "Beach House", "Right on the sand.", List.of("Beach Access")),
+                dto(2L, "City Flat", "A short drive to the beach.", List.of()),
+                dto(3L, "Forest Lodge", "Quiet woods.", List.of())));
+        assertArrayEquals(new long[]{1, 2}, result.idsByRelevance());
+    }
+
+    @Test
+    @DisplayName("Should page filter results by relevance")
+    void shouldPageByRelevance() {
+        TextSearchResult result = index.search("beach", Locale.ENGLISH);
+
+        assertArrayEquals(new long[]{1, 2}, searchIndex.searchPage(new PropertySearchCriteria(), result,
+                PropertySort.RELEVANCE, Sort.Direction.DESC, null, 10));
+        assertArrayEquals(new long[]{2}, searchIndex.searchPage(
+                PropertySearchCriteria.builder().maxPrice(new BigDecimal("200")).build(), result,
+                PropertySort.RELEVANCE, Sort.Direction.DESC, null, 10));
+    }
+
+    private static void assertIds(TextSearchResult result, long... expected) {
+        long[] actual = new long[result.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = result.idAt(i);
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    private static Property property(Long id, String title, String description, String location, String amenities) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle(title);
+        property.setDescription(description);
+        property.setLocation(location);
+        property.setAmenities(amenities);
+        property.setPrice(new BigDecimal(id == 1L ? "450.00" : "150.00"));
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setMaxGuests(4);
+        return property;
+    }
+
+    private static PropertyDTO dto(Long id, String title, String description, List<String> amenities) {
+        PropertyDTO property = new PropertyDTO();
+        property.setId(id);
+        property.setTitle(title);
+        property.setDescription(description);
+        property.setLocation("Somewhere");
+        property.setAmenities(amenities);
+        return property;
+    }
+}
@@ -0,0 +1,152 @@
+package com.vacationstay.security;
+
+import com.vacationstay.exception.TooManyRequestsException;
+import com.vacationstay.model.User;
+import com.vacationstay.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the bounded password encoder.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject hashing immediately once the queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 10_000, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueued(1);
+
+        TooManyRequestsException encodeRejected = assertThrows(TooManyRequestsException.class,
+                () -> encoder.encode("third"));
+        PasswordHashingBusyException matchRejected = assertThrows(PasswordHashingBusyException.class,
+                () -> encoder.matches("third", "hash"));
+
+        assertEquals(1, encodeRejected.getRetryAfterSeconds());
+        assertEquals(1, matchRejected.getRetryAfterSeconds());
+        assertEquals(2, meterRegistry.get("password.hashing.rejected").counter().count());
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should give up waiting for a result after the timeout")
+    void shouldTimeOutWaitingForResult() {
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 50, null);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> encoder.encode("password"));
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should store an upgraded hash after a login with a weaker stored hash")
+    void shouldUpgradeWeakerHashOnLogin() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 10_000, null);
+        UserPrincipal principal = principal(new BCryptPasswordEncoder(4).encode("password"));
+        when(userDetailsService.loadUserByUsername("john@example.com")).thenReturn(principal);
+        when(userDetailsService.updatePassword(eq(principal), any())).thenAnswer(invocation -> principal);
+
+        Authentication authentication = provider().authenticate(
+                new UsernamePasswordAuthenticationToken("john@example.com", "password"));
+
+        assertTrue(authentication.isAuthenticated());
+        verify(userDetailsService).updatePassword(eq(principal), argThat(hash -> hash.startsWith("$2a$05$")));
+    }
+
+    @Test
+    @DisplayName("Should keep a stored hash that already uses the configured strength")
+    void shouldNotUpgradeCurrentHash() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 10_000, null);
+        UserPrincipal principal = principal(new BCryptPasswordEncoder(4).encode("password"));
+        when(userDetailsService.loadUserByUsername("john@example.com")).thenReturn(principal);
+
+        provider().authenticate(new UsernamePasswordAuthenticationToken("john@example.com", "password"));
+
+        verify(userDetailsService, never()).updatePassword(any(), any());
+    }
+
+    private DaoAuthenticationProvider provider() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(encoder);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return provider;
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < tasks) {
+            assertTrue(System.currentTimeMillis() < deadline, "Hashing request was not queued");
+            Thread.sleep(5);
+        }
+    }
+
+    private static UserPrincipal principal(String passwordHash) {
+        User user = new User();
+        user.setId(1L);
+        user.setName("John Doe");
+        user.setEmail("john@example.com");
+        user.setPassword(passwordHash);
+        return UserPrincipal.create(user);
+    }
+}
@@ -0,0 +1,42 @@
+package com.vacationstay.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the web login failure handling.
+ */
+@DisplayName("Form Login Failure Handler Tests")
+class FormLoginFailureHandlerTest {
+
+    private final FormLoginFailureHandler handler = new FormLoginFailureHandler();
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After when password hashing is saturated")
+    void shouldRejectBusyLoginWithTooManyRequests() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new PasswordHashingBusyException("The server is busy. Please try again shortly.", 1, null));
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(response.getRedirectedUrl());
+    }
+
+    @Test
+    @DisplayName("Should redirect back to the login page on bad credentials")
+    void shouldRedirectOnBadCredentials() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new BadCredentialsException("Bad credentials"));
+
+        assertEquals("/login?error", response.getRedirectedUrl());
+    }
+}
@@ -0,0 +1,133 @@
+package com.vacationstay.security;
+
+import com.vacationstay.model.User;
+import com.vacationstay.service.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JWT request authentication.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT Authentication Filter Tests")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private final JwtUtil jwtUtil = new JwtUtil("vacationstay-test-secret-key-for-jwt-tokens-minimum-256-bits",
+            60_000, 0);
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtUtil,
+                new UserPrincipalCache(customUserDetailsService, 30_000, 100), tokenRevocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should build the principal from token claims without loading the user")
+    void shouldAuthenticateFromClaims() throws Exception {
+        String token = jwtUtil.generateToken(7L, "john.doe@example.com", "John Doe", Set.of("USER", "ADMIN"));
+
+        Authentication authentication = authenticate(token);
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("john.doe@example.com", principal.getEmail());
+        assertEquals("John Doe", principal.getName());
+        assertNull(principal.getPassword());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authorities(authentication));
+        verify(customUserDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("Should round-trip roles through the token, including none")
+    void shouldRoundTripRoles() throws Exception {
+        UserPrincipal principal = UserPrincipal.create(user(3L, Set.of("USER", "HOST")));
+
+        String token = jwtUtil.generateToken(principal.getId(), principal.getEmail(), principal.getName(),
+                principal.getRoles());
+        String roleless = jwtUtil.generateToken(3L, "jane@example.com", "Jane Smith", null);
+
+        assertEquals(Set.of("USER", "HOST"), Set.copyOf(jwtUtil.getPrincipal(jwtUtil.parseToken(token)).getRoles()));
+        assertTrue(jwtUtil.getPrincipal(jwtUtil.parseToken(roleless)).getAuthorities().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should load and cache the user for a token without a user ID claim")
+    void shouldLoadUserForLegacyToken() throws Exception {
+        UserPrincipal stored = UserPrincipal.create(user(5L, Set.of("USER")));
+        when(customUserDetailsService.loadUserByUsername("jane@example.com")).thenReturn(stored);
+        String token = jwtUtil.generateToken("jane@example.com");
+
+        Authentication first = authenticate(token);
+        SecurityContextHolder.clearContext();
+        Authentication second = authenticate(token);
+
+        assertSame(stored, first.getPrincipal());
+        assertSame(stored, second.getPrincipal());
+        assertEquals(Set.of("ROLE_USER"), authorities(second));
+        verify(customUserDetailsService, times(1)).loadUserByUsername("jane@example.com");
+    }
+
+    @Test
+    @DisplayName("Should leave the request unauthenticated for an invalid token")
+    void shouldIgnoreInvalidToken() throws Exception {
+        assertNull(authenticate("not-a-jwt"));
+        verify(customUserDetailsService, never()).loadUserByUsername(any());
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static Set<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    private static User user(Long id, Set<String> roles) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Jane Smith");
+        user.setEmail("jane@example.com");
+        user.setPassword("hash");
+        user.setRoles(roles);
+        return user;
+    }
+}
@@ -0,0 +1,114 @@
+package com.vacationstay.security;
+
+import com.vacationstay.model.RevokedToken;
+import com.vacationstay.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JWT revocation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Revocation List Tests")
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(revokedTokenRepository, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token in the authentication filter")
+    void shouldRejectRevokedToken() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil("vacationstay-test-secret-key-for-jwt-tokens-minimum-256-bits", 60_000, 0);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userPrincipalCache, revocationList);
+        String token = jwtUtil.generateToken(1L, "john.doe@example.com", "John Doe", Set.of("USER"));
+
+        filter.doFilter(apiRequest(token), new MockHttpServletResponse(), new MockFilterChain());
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+
+        Claims claims = jwtUtil.parseToken(token);
+        revocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+        filter.doFilter(apiRequest(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(revokedTokenRepository).saveAndFlush(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("Should treat a concurrent revocation of the same token as already revoked")
+    void shouldTolerateDuplicateRevocation() {
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertDoesNotThrow(() -> revocationList.revoke("jti-1", Instant.now().plusSeconds(3600)));
+        assertTrue(revocationList.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("Should pick up tokens revoked by another instance")
+    void shouldSynchronizeRevocationsFromOtherInstances() {
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                new RevokedToken("jti-remote", Instant.now().plusSeconds(3600), Instant.now())));
+
+        assertFalse(revocationList.isRevoked("jti-remote"));
+        revocationList.synchronize();
+
+        assertTrue(revocationList.isRevoked("jti-remote"));
+    }
+
+    @Test
+    @DisplayName("Should keep unexpired tokens when pruning expired ones")
+    void shouldKeepUnexpiredTokensWhenPruning() {
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                new RevokedToken("jti-valid", Instant.now().plusSeconds(3600), Instant.now()),
+                new RevokedToken("jti-expired", Instant.now().minusSeconds(1), Instant.now().minusSeconds(60))));
+        when(revokedTokenRepository.deleteExpired(any())).thenReturn(1);
+        revocationList.synchronize();
+
+        assertEquals(1, revocationList.pruneExpired());
+
+        assertTrue(revocationList.isRevoked("jti-valid"));
+        assertFalse(revocationList.isRevoked("jti-expired"));
+    }
+
+    private static MockHttpServletRequest apiRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.vacationstay.service;
+
+import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.model.BookedDate;
+import com.vacationstay.model.Booking;
+import com.vacationstay.repository.BookedDateRepository;
+import com.vacationstay.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-threaded stress tests for booking admission.
+ * <p>
+ * Many threads race to book overlapping dates of a few properties; afterwards no date
+ * of any property may be held by two active bookings.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Booking Concurrency Stress Tests")
+class BookingConcurrencyStressTest {
+
+    private static final long[] PROPERTY_IDS = {1L, 2L, 3L, 4L, 5L};
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 40;
+    private static final int WINDOW_DAYS = 45;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookedDateRepository bookedDateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Queue<Long> createdBookingIds = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void tearDown() {
+        createdBookingIds.forEach(bookingService::deleteBooking);
+        createdBookingIds.clear();
+    }
+
+    @Test
+    @DisplayName("Should never double-book a date under concurrent booking requests")
+    void shouldNeverDoubleBookUnderConcurrentRequests() throws Exception {
+        LocalDate windowStart = LocalDate.now().plusDays(500);
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    long propertyId = PROPERTY_IDS[random.nextInt(PROPERTY_IDS.length)];
+                    LocalDate checkIn = windowStart.plusDays(random.nextInt(WINDOW_DAYS));
+                    LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(4));
+                    try {
+                        createdBookingIds.add(bookingService.createBooking(booking(propertyId, checkIn, checkOut)).getId());
+                    } catch (IllegalStateException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertFalse(createdBookingIds.isEmpty(), "Some bookings should have been admitted");
+        assertTrue(conflicts.get() > 0, "The workload should have produced conflicting requests");
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, createdBookingIds.size() + conflicts.get());
+
+        for (long propertyId : PROPERTY_IDS) {
+            List<Booking> admitted = bookingRepository.findByPropertyId(propertyId).stream()
+                    .filter(booking -> createdBookingIds.contains(booking.getId()))
+                    .toList();
+            long heldDays = 0;
+            for (int i = 0; i < admitted.size(); i++) {
+                Booking a = admitted.get(i);
+                heldDays += ChronoUnit.DAYS.between(a.getStartDate(), a.getEndDate()) + 1;
+                for (int j = i + 1; j < admitted.size(); j++) {
+                    Booking b = admitted.get(j);
+                    assertFalse(!a.getStartDate().isAfter(b.getEndDate()) && !b.getStartDate().isAfter(a.getEndDate()),
+                            "Bookings " + a.getId() + " and " + b.getId() + " of property " + propertyId + " overlap");
+                }
+            }
+            long recordedDays = admitted.stream().mapToLong(booking -> bookedDateRepository.countByBookingId(booking.getId())).sum();
+            assertEquals(heldDays, recordedDays, "Every date of an admitted booking should be held exactly once");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a date held twice at the database level")
+    void shouldRejectDuplicateDateInDatabase() {
+        LocalDate checkIn = LocalDate.now().plusDays(600);
+        BookingDTO first = bookingService.createBooking(booking(1L, checkIn, checkIn.plusDays(2)));
+        createdBookingIds.add(first.getId());
+
+        // Bypass the service checks entirely: the primary key alone must refuse the date
+        assertThrows(DataIntegrityViolationException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Booking holder = bookingRepository.findById(first.getId()).orElseThrow();
+            bookedDateRepository.saveAndFlush(new BookedDate(holder, checkIn.plusDays(1)));
+        }));
+
+        bookingService.cancelBooking(first.getId());
+        assertEquals(0, bookedDateRepository.countByBookingId(first.getId()));
+        createdBookingIds.add(bookingService.createBooking(booking(1L, checkIn, checkIn.plusDays(2))).getId());
+    }
+
+    private static BookingDTO booking(long propertyId, LocalDate checkIn, LocalDate checkOut) {
+        BookingDTO booking = new BookingDTO();
+        booking.setPropertyId(propertyId);
+        booking.setUserId(1L);
+        booking.setStartDate(checkIn);
+        booking.setEndDate(checkOut);
+        booking.setTotalPrice(new BigDecimal("100.00"));
+        booking.setStatus("confirmed");
+        return booking;
+    }
+}
@@ -0,0 +1,165 @@
+package com.vacationstay.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.PropertyImportError;
+import com.vacationstay.dto.PropertyImportReport;
+import com.vacationstay.service.impl.PropertyImportServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the bulk property import.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Import Service Tests")
+class PropertyImportServiceTest {
+
+    @Mock
+    private PropertyService propertyService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should import valid array elements and report invalid ones")
+    void shouldReportInvalidArrayElements() throws IOException {
+        String body = "[\n"
+                + property("Beach House") + ",\n"
+                + "42,\n"
+                + "{\"title\": \"Cabin\", \"price\": \"cheap\"},\n"
+                + property("Loft") + "\n"
+                + "]";
+
+        PropertyImportReport report = service(10, 10).importJsonArray(stream(body));
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertError(report.getErrors().get(0), 2, 3, "Record must be a JSON object");
+        assertEquals(3, report.getErrors().get(1).getRecord());
+        assertEquals(4, report.getErrors().get(1).getLine());
+        assertTrue(report.getErrors().get(1).getMessage().startsWith("Invalid property"));
+        verify(propertyService).createProperties(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop a JSON array import at malformed JSON")
+    void shouldStopArrayImportAtMalformedJson() throws IOException {
+        String body = "[\n" + property("Beach House") + ",\n{\"title\": }\n]";
+
+        PropertyImportReport report = service(10, 10).importJsonArray(stream(body));
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getFailed());
+        PropertyImportError error = report.getErrors().get(0);
+        assertEquals(2, error.getRecord());
+        assertEquals(3, error.getLine());
+        assertTrue(error.getMessage().startsWith("Malformed JSON, import stopped"));
+    }
+
+    @Test
+    @DisplayName("Should skip a malformed NDJSON line and continue")
+    void shouldSkipMalformedNdjsonLine() throws IOException {
+        String body = property("Beach House") + "\n"
+                + "\n"
+                + "{not json\n"
+                + property("Loft") + "\n";
+
+        PropertyImportReport report = service(10, 10).importNdjson(stream(body));
+
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getRecord());
+        assertEquals(3, report.getErrors().get(0).getLine());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Should report validation errors with record and line numbers")
+    void shouldReportValidationErrors() throws IOException {
+        String body = property("Beach House") + "\n"
+                + property("x".repeat(256)) + "\n"
+                + "{\"title\": \"Cabin\"}\n";
+
+        PropertyImportReport report = service(10, 10).importNdjson(stream(body));
+
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertError(report.getErrors().get(0), 2, 2, "Property validation failed");
+        assertTrue(report.getErrors().get(0).getFieldErrors().containsKey("title"));
+        assertError(report.getErrors().get(1), 3, 3, "Property validation failed");
+        assertTrue(report.getErrors().get(1).getFieldErrors().containsKey("price"));
+    }
+
+    @Test
+    @DisplayName("Should cap the reported errors and flag the truncation")
+    void shouldTruncateReportedErrors() throws IOException {
+        String body = "{}\n{}\n{}\n";
+
+        PropertyImportReport report = service(10, 2).importNdjson(stream(body));
+
+        assertEquals(0, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(2, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        verify(propertyService, never()).createProperties(anyList());
+    }
+
+    @Test
+    @DisplayName("Should retry a rejected chunk one record at a time")
+    void shouldRetryRejectedChunkRecordByRecord() throws IOException {
+        List<Integer> attemptSizes = new ArrayList<>();
+        when(propertyService.createProperties(anyList())).thenAnswer(invocation -> {
+            List<PropertyDTO> chunk = invocation.getArgument(0);
+            attemptSizes.add(chunk.size());
+            if (chunk.stream().anyMatch(property -> property.getTitle().equals("Duplicate"))) {
+                throw new DataIntegrityViolationException("could not execute batch [insert into properties ...]");
+            }
+            return List.of();
+        });
+        String body = property("Beach House") + "\n"
+                + property("Duplicate") + "\n"
+                + property("Loft") + "\n";
+
+        PropertyImportReport report = service(3, 10).importNdjson(stream(body));
+
+        assertEquals(List.of(3, 1, 1, 1), attemptSizes);
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertError(report.getErrors().get(0), 2, 2, "Could not store property");
+    }
+
+    private PropertyImportService service(int chunkSize, int maxReportedErrors) {
+        return new PropertyImportServiceImpl(propertyService, objectMapper, chunkSize, maxReportedErrors);
+    }
+
+    private static void assertError(PropertyImportError error, long record, long line, String message) {
+        assertEquals(record, error.getRecord());
+        assertEquals(line, error.getLine());
+        assertEquals(message, error.getMessage());
+    }
+
+    private static String property(String title) {
+        return "{\"title\": \"" + title + "\", \"description\": \"Description\", \"location\": \"Malibu, CA\", "
+                + "\"price\": 450.00, \"bedrooms\": 4, \"bathrooms\": 3, \"maxGuests\": 8, "
+                + "\"amenities\": [\"WiFi\"], \"images\": []}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,143 @@
+package com.vacationstay.service.impl;
+
+import com.vacationstay.availability.AvailabilityCalendar;
+import com.vacationstay.availability.PropertyLocks;
+import com.vacationstay.dto.DateRangeDTO;
+import com.vacationstay.repository.BookedDateRepository;
+import com.vacationstay.repository.BookingDateRange;
+import com.vacationstay.repository.BookingRepository;
+import com.vacationstay.repository.PropertyRepository;
+import com.vacationstay.repository.UserRepository;
+import com.vacationstay.service.PropertyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the booked date ranges of a property.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Booking Service Booked Ranges Tests")
+class BookingServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 11, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 12, 1);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PropertyService propertyService;
+
+    @Mock
+    private AvailabilityCalendar availabilityCalendar;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookedDateRepository bookedDateRepository;
+
+    @Mock
+    private PropertyLocks propertyLocks;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    @Test
+    @DisplayName("Should merge a booking starting the day after another one ends")
+    void shouldMergeAdjacentBookings() {
+        when(bookingRepository.findActiveDateRanges(1L, FROM, TO.minusDays(1))).thenReturn(List.of(
+                booking("2026-11-03", "2026-11-05"),
+                booking("2026-11-06", "2026-11-08")));
+
+        List<DateRangeDTO> ranges = bookingService.getBookedRanges(1L, FROM, TO);
+
+        assertEquals(List.of(range("2026-11-03", "2026-11-09")), ranges);
+    }
+
+    @Test
+    @DisplayName("Should merge overlapping and contained bookings and keep gaps apart")
+    void shouldMergeOverlappingBookings() {
+        when(bookingRepository.findActiveDateRanges(1L, FROM, TO.minusDays(1))).thenReturn(List.of(
+                booking("2026-11-03", "2026-11-10"),
+                booking("2026-11-04", "2026-11-06"),
+                booking("2026-11-09", "2026-11-12"),
+                booking("2026-11-14", "2026-11-15")));
+
+        List<DateRangeDTO> ranges = bookingService.getBookedRanges(1L, FROM, TO);
+
+        // 2026-11-13 is free, so the last booking starts a new range
+        assertEquals(List.of(range("2026-11-03", "2026-11-13"), range("2026-11-14", "2026-11-16")), ranges);
+    }
+
+    @Test
+    @DisplayName("Should clip bookings crossing the edges of the window")
+    void shouldClipRangesToWindow() {
+        when(bookingRepository.findActiveDateRanges(1L, FROM, TO.minusDays(1))).thenReturn(List.of(
+                booking("2026-10-28", "2026-11-02"),
+                booking("2026-11-29", "2026-12-04")));
+
+        List<DateRangeDTO> ranges = bookingService.getBookedRanges(1L, FROM, TO);
+
+        assertEquals(List.of(range("2026-11-01", "2026-11-03"), range("2026-11-29", "2026-12-01")), ranges);
+    }
+
+    @Test
+    @DisplayName("Should return no ranges for an empty window without querying")
+    void shouldReturnNothingForEmptyWindow() {
+        assertTrue(bookingService.getBookedRanges(1L, FROM, FROM).isEmpty());
+        assertTrue(bookingService.getBookedRanges(1L, TO, FROM).isEmpty());
+        verify(bookingRepository, never()).findActiveDateRanges(anyLong(), any(), any());
+    }
+
+    private static BookingDateRange booking(String start, String endInclusive) {
+        return new StoredRange(1L, LocalDate.parse(start), LocalDate.parse(endInclusive));
+    }
+
+    private static DateRangeDTO range(String start, String endExclusive) {
+        return new DateRangeDTO(LocalDate.parse(start), LocalDate.parse(endExclusive));
+    }
+
+    private record StoredRange(Long id, LocalDate startDate, LocalDate endDate) implements BookingDateRange {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        @Override
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.vacationstay.service.impl;
+
+import com.vacationstay.dto.BookingDTO;
+import com.vacationstay.dto.DashboardView;
+import com.vacationstay.dto.PropertyDTO;
+import com.vacationstay.dto.UserDTO;
+import com.vacationstay.exception.ResourceNotFoundException;
+import com.vacationstay.service.BookingService;
+import com.vacationstay.service.PropertyService;
+import com.vacationstay.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the parallel dashboard loading.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Dashboard Service Tests")
+class DashboardServiceImplTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private PropertyService propertyService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private DashboardServiceImpl dashboardService;
+
+    @AfterEach
+    void tearDown() {
+        if (dashboardService != null) {
+            dashboardService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should combine the three branches into the dashboard")
+    void shouldLoadEveryBranch() {
+        UserDTO user = new UserDTO();
+        user.setId(1L);
+        BookingDTO booking = new BookingDTO();
+        PropertyDTO property = new PropertyDTO();
+        when(userService.getUserById(1L)).thenReturn(user);
+        when(bookingService.getBookingsByUser(1L)).thenReturn(List.of(booking));
+        when(propertyService.getPropertiesByOwner("1")).thenReturn(List.of(property));
+
+        DashboardView view = service(10_000).loadDashboard(1L);
+
+        assertSame(user, view.getUser());
+        assertEquals(List.of(booking), view.getBookings());
+        assertEquals(List.of(property), view.getProperties());
+        assertEquals(1, meterRegistry.get("dashboard.load").tag("branch", "bookings").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed branch and interrupt the branches still running")
+    void shouldPropagateBranchFailure() throws InterruptedException {
+        when(userService.getUserById(1L)).thenReturn(new UserDTO());
+        when(bookingService.getBookingsByUser(1L)).thenAnswer(invocation -> {
+            // Fail only once the other branch is running, so it has to be interrupted
+            started.await();
+            throw new ResourceNotFoundException("User not found");
+        });
+        when(propertyService.getPropertiesByOwner("1")).thenAnswer(blockUntilInterrupted());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> service(10_000).loadDashboard(1L));
+
+        assertEquals("User not found", exception.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should time out and interrupt the branches still running")
+    void shouldTimeOutAndCancelBranches() throws InterruptedException {
+        when(userService.getUserById(1L)).thenAnswer(blockUntilInterrupted());
+        when(bookingService.getBookingsByUser(1L)).thenReturn(List.of());
+        when(propertyService.getPropertiesByOwner("1")).thenReturn(List.of());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> service(200).loadDashboard(1L));
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private DashboardServiceImpl service(long timeoutMs) {
+        dashboardService = new DashboardServiceImpl(userService, bookingService, propertyService, meterRegistry,
+                4, 8, timeoutMs);
+        return dashboardService;
+    }
+
+    private <T> Answer<T> blockUntilInterrupted() {
+        return invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return null;
+        };
+    }
+}
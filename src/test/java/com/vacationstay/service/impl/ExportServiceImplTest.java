@@ -0,0 +1,162 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vacationstay.dto.ExportFormat;
+import com.vacationstay.repository.BookingExportRow;
+import com.vacationstay.repository.BookingRepository;
+import com.vacationstay.repository.PropertyExportRow;
+import com.vacationstay.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the streaming table exports.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Export Service Tests")
+class ExportServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(propertyRepository, bookingRepository, objectMapper, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields containing commas, quotes and line breaks")
+    void shouldQuoteCsvFields() throws IOException {
+        when(propertyRepository.streamExportRows()).thenReturn(Stream.of(
+                property(1L, "Villa, \"Ocean\" View", "Line one\nLine two", "[\"WiFi\",\"Pool\"]")));
+
+        String csv = export(ExportFormat.CSV, false);
+
+        String[] rows = csv.split("\r\n", -1);
+        assertEquals(3, rows.length);
+        assertTrue(rows[0].startsWith("id,title,description,location,"));
+        assertTrue(rows[1].startsWith("1,\"Villa, \"\"Ocean\"\" View\",\"Line one\nLine two\",Malibu,"));
+        assertTrue(rows[1].contains(",450.00,4,3,8,\"[\"\"WiFi\"\",\"\"Pool\"\"]\",[],"));
+        assertEquals("", rows[2]);
+    }
+
+    @Test
+    @DisplayName("Should embed stored amenities and images as raw JSON in NDJSON")
+    void shouldEmbedJsonColumnsInNdjson() throws IOException {
+        when(propertyRepository.streamExportRows()).thenReturn(Stream.of(
+                property(1L, "Villa", "Description", "[\"WiFi\",\"Pool\"]"),
+                property(2L, "Cabin", "Description", "[]")));
+
+        List<String> lines = export(ExportFormat.NDJSON, false).lines().toList();
+
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertTrue(first.get("amenities").isArray());
+        assertEquals("Pool", first.get("amenities").get(1).asText());
+        assertTrue(first.get("images").isArray());
+        assertTrue(lines.get(0).contains("\"price\":450.00,"));
+        assertEquals("2026-10-17T12:00:00", first.get("createdAt").asText());
+        assertTrue(first.get("latitude").isNull());
+        assertEquals(2, objectMapper.readTree(lines.get(1)).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Should compact multi-line stored JSON and replace malformed values with empty arrays")
+    void shouldSanitizeStoredJsonInNdjson() throws IOException {
+        when(propertyRepository.streamExportRows()).thenReturn(Stream.of(
+                property(1L, "Villa", "Description", "[\n  \"WiFi\",\n  \"Pool\"\n]"),
+                property(2L, "Cabin", "Description", "[\"WiFi\""),
+                property(3L, "Loft", "Description", "{\"WiFi\": true}")));
+
+        List<String> lines = export(ExportFormat.NDJSON, false).lines().toList();
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"amenities\":[\"WiFi\",\"Pool\"]"));
+        assertEquals(0, objectMapper.readTree(lines.get(1)).get("amenities").size());
+        assertTrue(objectMapper.readTree(lines.get(2)).get("amenities").isArray());
+        assertEquals(0, objectMapper.readTree(lines.get(2)).get("amenities").size());
+    }
+
+    @Test
+    @DisplayName("Should write gzip output that decompresses to the plain export")
+    void shouldWriteGzipOutput() throws IOException {
+        when(bookingRepository.streamExportRows()).thenReturn(Stream.of(booking(1L), booking(2L)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportBookings(ExportFormat.NDJSON, true, output);
+
+        String text;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            text = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = text.lines().toList();
+        assertEquals(2, lines.size());
+        JsonNode booking = objectMapper.readTree(lines.get(1));
+        assertEquals(2, booking.get("id").asLong());
+        assertEquals("2026-11-01", booking.get("startDate").asText());
+        assertEquals("CONFIRMED", booking.get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Should export an empty table as a header only or nothing")
+    void shouldExportEmptyTable() throws IOException {
+        when(bookingRepository.streamExportRows()).thenReturn(Stream.empty(), Stream.empty());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.exportBookings(ExportFormat.CSV, false, csv);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exportService.exportBookings(ExportFormat.NDJSON, false, ndjson);
+
+        assertEquals("id,propertyId,userId,startDate,endDate,totalPrice,status,createdAt,updatedAt\r\n",
+                csv.toString(StandardCharsets.UTF_8));
+        assertEquals(0, ndjson.size());
+    }
+
+    private String export(ExportFormat format, boolean gzip) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportProperties(format, gzip, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static PropertyExportRow property(Long id, String title, String description, String amenities) {
+        return new PropertyExportRow(id, title, description, "Malibu", null, null, new BigDecimal("450.00"),
+                4, 3, 8, amenities, "[]", "1", 4.5, 2, CREATED_AT, CREATED_AT);
+    }
+
+    private static BookingExportRow booking(Long id) {
+        return new BookingExportRow(id, 1L, 1L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 5),
+                new BigDecimal("1800.00"), "CONFIRMED", CREATED_AT, CREATED_AT);
+    }
+}
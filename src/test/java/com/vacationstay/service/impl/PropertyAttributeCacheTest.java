@@ -0,0 +1,60 @@
+package com.vacationstay.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacationstay.model.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parsed property attribute cache.
+ */
+@DisplayName("Property Attribute Cache Tests")
+class PropertyAttributeCacheTest {
+
+    private final PropertyAttributeCache cache = new PropertyAttributeCache(new ObjectMapper(), 100);
+
+    @Test
+    @DisplayName("Should skip null and blank elements")
+    void shouldSkipNullAndBlankElements() {
+        Property property = property("[\"Pool\",null,\" \",\"WiFi\"]", "[null,\"/img/1.jpg\"]");
+
+        PropertyAttributeCache.ParsedAttributes attributes = cache.get(property);
+
+        assertEquals(List.of("Pool", "WiFi"), attributes.amenities());
+        assertEquals(List.of("/img/1.jpg"), attributes.images());
+    }
+
+    @Test
+    @DisplayName("Should fall back to empty lists for malformed JSON")
+    void shouldFallBackToEmptyListsForMalformedJson() {
+        PropertyAttributeCache.ParsedAttributes attributes = cache.get(property("[\"Pool\"", "{}"));
+
+        assertEquals(List.of(), attributes.amenities());
+        assertEquals(List.of(), attributes.images());
+    }
+
+    @Test
+    @DisplayName("Should reuse parsed attributes of an unchanged property")
+    void shouldReuseParsedAttributes() {
+        Property property = property("[\"Pool\"]", "[]");
+        PropertyAttributeCache.ParsedAttributes first = cache.get(property);
+
+        assertSame(first, cache.get(property));
+        property.setAmenities("[\"Gym\"]");
+        assertEquals(List.of("Gym"), cache.get(property).amenities());
+    }
+
+    private static Property property(String amenities, String images) {
+        Property property = new Property("Beach House", "Description", "Malibu, CA", new BigDecimal("450.00"),
+                4, 3, 8, amenities, images, "1");
+        property.setId(1L);
+        property.setUpdatedAt(LocalDateTime.of(2026, 10, 17, 12, 0));
+        return property;
+    }
+}